@@ -258,11 +258,11 @@ public class DefaultActionInvocation implements ActionInvocation {
             if (interceptors.hasNext()) {
                 final InterceptorMapping interceptorMapping = interceptors.next();
                 Interceptor interceptor = interceptorMapping.getInterceptor();
-                if (interceptor instanceof WithLazyParams) {
+                if (interceptorMapping.isWithLazyParams()) {
                     interceptor = lazyParamInjector.injectParams(interceptor, interceptorMapping.getParams(), invocationContext);
                 }
-                if (interceptor instanceof ConditionalInterceptor conditionalInterceptor) {
-                    resultCode = executeConditional(conditionalInterceptor);
+                if (interceptorMapping.isConditional()) {
+                    resultCode = executeConditional((ConditionalInterceptor) interceptor);
                 } else {
                     LOG.debug("Executing normal interceptor: {}", interceptorMapping.getName());
                     resultCode = interceptor.intercept(this);
@@ -431,9 +431,8 @@ public class DefaultActionInvocation implements ActionInvocation {
     }
 
     protected void createInterceptors(ActionProxy proxy) {
-        // Get a new List so we don't get problems with the iterator if someone changes the original list
-        List<InterceptorMapping> interceptorList = new ArrayList<>(proxy.getConfig().getInterceptors());
-        interceptors = interceptorList.iterator();
+        // the chain is an immutable snapshot shared by all invocations of the action, so it's safe to iterate over it
+        interceptors = proxy.getConfig().getInterceptorChain().iterator();
     }
 
     protected String invokeAction(Object action, ActionConfig actionConfig) throws Exception {
@@ -444,7 +443,7 @@ public class DefaultActionInvocation implements ActionInvocation {
         try {
             Object methodResult;
             try {
-                methodResult = ognlUtil.callMethod(methodName + "()", getStack().getContext(), action);
+                methodResult = ognlUtil.callMethodDirectly(methodName, getStack().getContext(), action);
             } catch (MethodFailedException e) {
                 // if reason is missing method,  try checking UnknownHandlers
                 if (e.getReason() instanceof NoSuchMethodException) {
@@ -57,6 +57,14 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_CONFIGURATION_XML_RELOAD = "struts.configuration.xml.reload";
 
+    /**
+     * Minimum interval in milliseconds between two checks whether the XML configuration needs to be reloaded,
+     * 0 means check on every access
+     *
+     * @since 7.1.0
+     */
+    public static final String STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL = "struts.configuration.xml.reload.interval";
+
     /**
      * The URL extension to use to determine if the request is meant for a Struts action
      */
@@ -306,6 +314,21 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_SERVE_STATIC_BROWSER_CACHE = "struts.serve.static.browserCache";
 
+    /**
+     * If static content served by the Struts filter should be kept in memory, applies only when browser caching
+     * is enabled and devMode is off
+     *
+     * @since 7.1.0
+     */
+    public static final String STRUTS_SERVE_STATIC_CACHE = "struts.serve.static.cache";
+
+    /**
+     * Total size in bytes of the static content kept in memory, including its compressed variants
+     *
+     * @since 7.1.0
+     */
+    public static final String STRUTS_SERVE_STATIC_CACHE_MAX_SIZE = "struts.serve.static.cache.maxSize";
+
     /**
      * Allows one to disable dynamic method invocation from the URL
      */
@@ -673,4 +696,25 @@ public final class StrutsConstants {
      * See {@link org.apache.struts2.interceptor.exec.ExecutorProvider}
      */
     public static final String STRUTS_EXECUTOR_PROVIDER = "struts.executor.provider";
+
+    /**
+     * Max number of background processes executed concurrently by {@link org.apache.struts2.interceptor.exec.StrutsExecutorProvider}
+     *
+     * @since 7.1.0
+     */
+    public static final String STRUTS_EXECUTOR_MAX_THREADS = "struts.executor.maxThreads";
+
+    /**
+     * Max number of background processes waiting for execution, more processes are rejected
+     *
+     * @since 7.1.0
+     */
+    public static final String STRUTS_EXECUTOR_QUEUE_CAPACITY = "struts.executor.queueCapacity";
+
+    /**
+     * Executes each background process in a virtual thread when running on Java 21+
+     *
+     * @since 7.1.0
+     */
+    public static final String STRUTS_EXECUTOR_VIRTUAL_THREADS = "struts.executor.virtualThreads";
 }
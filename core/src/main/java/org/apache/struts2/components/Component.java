@@ -23,6 +23,7 @@ import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.security.NotExcludedAcceptedPatternsChecker;
 import org.apache.struts2.util.TextParseUtil;
+import org.apache.struts2.util.TextParser;
 import org.apache.struts2.util.ValueStack;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -78,6 +79,7 @@ public class Component {
     private UrlHelper urlHelper;
 
     private NotExcludedAcceptedPatternsChecker notExcludedAcceptedPatterns;
+    private TextParser textParser;
 
     /**
      * Constructor.
@@ -128,6 +130,15 @@ public class Component {
         this.urlHelper = urlHelper;
     }
 
+    /**
+     * @param textParser parser used to evaluate String attributes, {@link TextParseUtil} looks it up when not injected
+     * @since 7.1.0
+     */
+    @Inject(required = false)
+    public void setTextParser(TextParser textParser) {
+        this.textParser = textParser;
+    }
+
     @Inject
     public void setNotExcludedAcceptedPatterns(NotExcludedAcceptedPatternsChecker notExcludedAcceptedPatterns) {
         this.notExcludedAcceptedPatterns = notExcludedAcceptedPatterns;
@@ -379,11 +390,15 @@ public class Component {
      */
     protected Object findValue(String expression, Class<?> toType) {
         if (toType == String.class) {
-            if (ComponentUtils.containsExpression(expression)) {
-                return TextParseUtil.translateVariables('%', expression, stack);
-            } else {
+            if (!ComponentUtils.containsExpression(expression)) {
                 return expression;
             }
+            if (textParser == null) {
+                return TextParseUtil.translateVariables('%', expression, stack);
+            }
+            // same as TextParseUtil.translateVariables(), without looking the parser up for each attribute
+            return textParser.evaluate(new char[]{'%'}, expression,
+                parsedValue -> stack.findValue(parsedValue, String.class), TextParser.DEFAULT_LOOP_COUNT).toString();
         } else {
             String strippedExpression = stripExpression(expression);
             return getStack().findValue(strippedExpression, toType, throwExceptionOnELFailure);
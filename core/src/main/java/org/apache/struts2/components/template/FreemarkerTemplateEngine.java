@@ -25,17 +25,20 @@ import org.apache.struts2.util.ClassLoaderUtil;
 import org.apache.struts2.util.ValueStack;
 import freemarker.core.ParseException;
 import freemarker.template.Configuration;
-import freemarker.template.SimpleHash;
+import freemarker.template.ObjectWrapper;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
 
 import java.io.IOException;
 import java.io.Writer;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Freemarker based template engine.
@@ -58,6 +61,12 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
 
     private static final Logger LOG = LogManager.getLogger(FreemarkerTemplateEngine.class);
 
+    private static final int MAX_RESOLVED_TEMPLATES = 10000;
+
+    private static final String ATTR_REQUEST_TEMPLATE_MODEL = ".freemarker.TagTemplateModel";
+
+    private final Map<TemplateResolutionKey, TemplateResolution> resolvedTemplates = new ConcurrentHashMap<>();
+
     @Inject
     public void setFreemarkerManager(FreemarkerManager mgr) {
         this.freemarkerManager = mgr;
@@ -74,18 +83,36 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         // prepare freemarker
         Configuration config = freemarkerManager.getConfiguration(servletContext);
 
-        // get the list of templates we can use
-        List<Template> templates = templateContext.getTemplate().getPossibleTemplates(this);
-
-        // find the right template
+        // find the right template, preferring the candidate that won the last lookup
+        Template requested = templateContext.getTemplate();
+        TemplateResolutionKey key = new TemplateResolutionKey(config, requested);
         freemarker.template.Template template = null;
         String templateName = null;
         Exception exception = null;
-        for (Template t : templates) {
-            templateName = getFinalTemplateName(t);
+
+        TemplateResolution resolution = resolvedTemplates.get(key);
+        if (resolution != null && resolution.isValid(config)) {
+            try {
+                templateName = resolution.templateName();
+                template = config.getTemplate(templateName);
+            } catch (ParseException e) {
+                throw e;
+            } catch (IOException e) {
+                LOG.debug("Previously resolved template [{}] is no longer available, resolving again", templateName, e);
+                resolvedTemplates.remove(key);
+            }
+        }
+
+        // get the list of templates we can use
+        List<Template> templates = null;
+        if (template == null) {
+            templates = requested.getPossibleTemplates(this);
+            for (Template t : templates) {
+                templateName = getFinalTemplateName(t);
                 try {
                     // try to load, and if it works, stop at the first one
                     template = config.getTemplate(templateName);
+                    cacheResolution(key, templateName);
                     break;
                 } catch (ParseException e) {
                     // template was found but was invalid - always report this.
@@ -97,11 +124,12 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
                         exception = e;
                     }
                 }
+            }
         }
 
         if (template == null) {
             if (LOG.isErrorEnabled()) {
-                LOG.error("Could not load the FreeMarker template named '{}':", templateContext.getTemplate().getName());
+                LOG.error("Could not load the FreeMarker template named '{}':", requested.getName());
                 for (Template t : templates) {
                     LOG.error("Attempted: {}", getFinalTemplateName(t));
                 }
@@ -123,28 +151,17 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
             LOG.warn("Rendering tag {} out of Action scope, accessing directly JSPs is not recommended! " +
                     "Please read https://struts.apache.org/security/#never-expose-jsp-files-directly", templateName);
         }
-        SimpleHash model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, config.getObjectWrapper());
 
+        // layer the tag on top of the model shared by all tags rendered within this request
+        RequestTemplateModel requestModel = getRequestTemplateModel(stack, action, servletContext, req, res, config.getObjectWrapper());
+        ScopesHashModel model = new ScopesHashModel(requestModel.model());
         model.put("tag", templateContext.getTag());
         model.put("themeProperties", getThemeProps(templateContext.getTemplate()));
+        req.setAttribute(FreemarkerManager.ATTR_TEMPLATE_MODEL, model);
 
         // the BodyContent JSP writer doesn't like it when FM flushes automatically --
         // so let's just not do it (it will be flushed eventually anyway)
-        Writer writer = templateContext.getWriter();
-        final Writer wrapped = writer;
-        writer = new Writer() {
-            public void write(char[] cbuf, int off, int len) throws IOException {
-                wrapped.write(cbuf, off, len);
-            }
-
-            public void flush() throws IOException {
-                // nothing!
-            }
-
-            public void close() throws IOException {
-                wrapped.close();
-            }
-        };
+        Writer writer = requestModel.getWriter(templateContext.getWriter());
 
         LOG.debug("Push tag on top of the stack");
         stack.push(templateContext.getTag());
@@ -156,7 +173,125 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         }
     }
 
+    /**
+     * Returns the template model built for the current request, building it only when none exists yet
+     * or when the stack, action, object wrapper or session it was built with changed.
+     */
+    private RequestTemplateModel getRequestTemplateModel(ValueStack stack, Object action, ServletContext servletContext,
+                                                         HttpServletRequest req, HttpServletResponse res, ObjectWrapper wrapper) {
+        boolean hasSession = req.getSession(false) != null;
+        if (req.getAttribute(ATTR_REQUEST_TEMPLATE_MODEL) instanceof RequestTemplateModel requestModel
+                && requestModel.matches(stack, action, wrapper, hasSession)) {
+            return requestModel;
+        }
+        ScopesHashModel model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, wrapper);
+        RequestTemplateModel requestModel = new RequestTemplateModel(model, stack, action, wrapper, hasSession);
+        req.setAttribute(ATTR_REQUEST_TEMPLATE_MODEL, requestModel);
+        return requestModel;
+    }
+
+    /**
+     * Remembers which concrete template file satisfied the given theme template, so the absent candidates
+     * earlier in the theme parent chain are not probed again until FreeMarker's template update delay elapses.
+     */
+    private void cacheResolution(TemplateResolutionKey key, String templateName) {
+        if (resolvedTemplates.size() >= MAX_RESOLVED_TEMPLATES) {
+            resolvedTemplates.clear();
+        }
+        resolvedTemplates.put(key, new TemplateResolution(templateName, System.currentTimeMillis()));
+    }
+
+    /**
+     * Drops all remembered template resolutions, e.g. after templates have been added or removed.
+     *
+     * @since 7.1.0
+     */
+    public void clearResolvedTemplates() {
+        resolvedTemplates.clear();
+    }
+
     protected String getSuffix() {
         return "ftl";
     }
+
+    private static final class RequestTemplateModel {
+
+        private final ScopesHashModel model;
+        private final ValueStack stack;
+        private final Object action;
+        private final ObjectWrapper wrapper;
+        private final boolean hasSession;
+        private NonFlushingWriter writer;
+
+        RequestTemplateModel(ScopesHashModel model, ValueStack stack, Object action, ObjectWrapper wrapper, boolean hasSession) {
+            this.model = model;
+            this.stack = stack;
+            this.action = action;
+            this.wrapper = wrapper;
+            this.hasSession = hasSession;
+        }
+
+        ScopesHashModel model() {
+            return model;
+        }
+
+        boolean matches(ValueStack stack, Object action, ObjectWrapper wrapper, boolean hasSession) {
+            return this.stack == stack && this.action == action && this.wrapper == wrapper && this.hasSession == hasSession;
+        }
+
+        Writer getWriter(Writer target) {
+            if (writer == null || writer.target != target) {
+                writer = new NonFlushingWriter(target);
+            }
+            return writer;
+        }
+    }
+
+    private static final class NonFlushingWriter extends Writer {
+
+        private final Writer target;
+
+        NonFlushingWriter(Writer target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            target.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            target.write(str, off, len);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            target.write(c);
+        }
+
+        @Override
+        public void flush() {
+            // nothing!
+        }
+
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+    }
+
+    private record TemplateResolutionKey(Configuration config, Template template) {
+    }
+
+    private record TemplateResolution(String templateName, long resolvedAt) {
+
+        /**
+         * A resolution is trusted for as long as FreeMarker itself would keep serving the cached template,
+         * so a zero update delay (usual in development) effectively disables it.
+         */
+        boolean isValid(Configuration config) {
+            return System.currentTimeMillis() - resolvedAt < config.getTemplateUpdateDelayMilliseconds();
+        }
+    }
 }
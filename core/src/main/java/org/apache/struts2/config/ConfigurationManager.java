@@ -26,8 +26,11 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.apache.struts2.StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD;
+import static org.apache.struts2.StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL;
 
 
 /**
@@ -41,29 +44,75 @@ import static org.apache.struts2.StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD
 public class ConfigurationManager {
 
     protected static final Logger LOG = LogManager.getLogger(ConfigurationManager.class);
-    protected Configuration configuration;
+    protected volatile Configuration configuration;
     private List<ContainerProvider> containerProviders = new ArrayList<>();
     private List<PackageProvider> packageProviders = new ArrayList<>();
     protected String defaultFrameworkBeanName;
-    private boolean providersChanged = true;
-    private boolean alwaysReloadConfigs = false;
+    private volatile boolean providersChanged = true;
+    private volatile boolean alwaysReloadConfigs = false;
+    private volatile long reloadCheckInterval = 0;
+    private volatile long lastReloadCheck = 0;
+    private final AtomicBoolean reloadCheckInProgress = new AtomicBoolean(false);
+    private final AtomicLong configurationVersion = new AtomicLong();
+    private volatile int reloadsInProgress = 0;
 
     public ConfigurationManager(String name) {
         this.defaultFrameworkBeanName = name;
     }
 
     /**
+     * Returns the current configuration without acquiring the manager's monitor once it has been initialised
+     * and no reload is running. The configuration is reloaded in place, so while a reload is running callers
+     * block until it has finished. If a reload check is due, only one thread performs it.
+     *
      * @return the current XWork configuration object. By default an instance of DefaultConfiguration will be returned
      *
      * @see org.apache.struts2.config.impl.DefaultConfiguration
      */
-    public synchronized Configuration getConfiguration() {
+    public Configuration getConfiguration() {
+        Configuration current = configuration;
+        if (current == null) {
+            return initialiseOrReloadConfiguration();
+        }
+        if (reloadsInProgress > 0) {
+            return awaitReload();
+        }
+        if (isReloadCheckDue() && reloadCheckInProgress.compareAndSet(false, true)) {
+            try {
+                return initialiseOrReloadConfiguration();
+            } finally {
+                reloadCheckInProgress.set(false);
+            }
+        }
+        return current;
+    }
+
+    private synchronized Configuration initialiseOrReloadConfiguration() {
         if (wasConfigInitialised()) {
             conditionalReload();
         }
         return configuration;
     }
 
+    private synchronized Configuration awaitReload() {
+        return configuration;
+    }
+
+    private boolean isReloadCheckDue() {
+        if (providersChanged) {
+            return true;
+        }
+        return alwaysReloadConfigs && System.currentTimeMillis() - lastReloadCheck >= reloadCheckInterval;
+    }
+
+    /**
+     * @return version of the currently published configuration, incremented each time the configuration is (re)loaded
+     * @since 7.1.0
+     */
+    public long getConfigurationVersion() {
+        return configurationVersion.get();
+    }
+
     /**
      * @return whether configuration was initialised (was null)
      */
@@ -79,14 +128,17 @@ public class ConfigurationManager {
         if (containerProviders.isEmpty()) {
             addDefaultContainerProviders();
         }
-        configuration = createConfiguration(defaultFrameworkBeanName);
+        reloadsInProgress++;
         try {
+            configuration = createConfiguration(defaultFrameworkBeanName);
             reload();
         } catch (ConfigurationException e) {
             configuration.destroy();
             configuration = null;
             providersChanged = true;
             throw new ConfigurationException("Unable to load configuration.", e);
+        } finally {
+            reloadsInProgress--;
         }
     }
 
@@ -178,6 +230,7 @@ public class ConfigurationManager {
     public synchronized void conditionalReload() {
         if (alwaysReloadConfigs || providersChanged) {
             LOG.debug("Checking ConfigurationProviders for reload.");
+            lastReloadCheck = System.currentTimeMillis();
             if (needReloadContainerProviders() || needReloadPackageProviders()) {
                 destroyAndReload();
             }
@@ -185,7 +238,16 @@ public class ConfigurationManager {
         }
     }
 
-    private void updateAlwaysReloadFlag() {
+    private void updateReloadSettings() {
+        String interval = configuration.getContainer().getInstance(String.class, STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL);
+        if (interval != null) {
+            try {
+                reloadCheckInterval = Math.max(0, Long.parseLong(interval.trim()));
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value [{}] of [{}], checking for reload on every access", interval, STRUTS_CONFIGURATION_XML_RELOAD_INTERVAL);
+                reloadCheckInterval = 0;
+            }
+        }
         boolean newValue = Boolean.parseBoolean(configuration.getContainer()
                 .getInstance(String.class, STRUTS_CONFIGURATION_XML_RELOAD));
         if (alwaysReloadConfigs != newValue) {
@@ -217,16 +279,27 @@ public class ConfigurationManager {
     }
 
     public synchronized void destroyAndReload() {
-        destroyContainerProviders();
-        reload();
+        reloadsInProgress++;
+        try {
+            destroyContainerProviders();
+            reload();
+        } finally {
+            reloadsInProgress--;
+        }
     }
 
     public synchronized void reload() {
-        if (wasConfigInitialised()) {
-            LOG.debug("Reloading all providers.");
-            packageProviders = configuration.reloadContainer(containerProviders);
-            providersChanged = false;
-            updateAlwaysReloadFlag();
+        reloadsInProgress++;
+        try {
+            if (wasConfigInitialised()) {
+                LOG.debug("Reloading all providers.");
+                packageProviders = configuration.reloadContainer(containerProviders);
+                providersChanged = false;
+                configurationVersion.incrementAndGet();
+                updateReloadSettings();
+            }
+        } finally {
+            reloadsInProgress--;
         }
     }
 }
@@ -67,6 +67,8 @@ public class ActionConfig extends Located implements Serializable {
     protected boolean strictMethodInvocation = true;
     protected AllowedMethods allowedMethods;
 
+    private transient volatile InterceptorChain interceptorChain;
+
     protected ActionConfig(String packageName, String name, String className) {
         this.packageName = packageName;
         this.name = name;
@@ -112,6 +114,19 @@ public class ActionConfig extends Located implements Serializable {
         return interceptors;
     }
 
+    /**
+     * @return immutable chain of the interceptors, built once and shared by all invocations of this action
+     * @since 7.1.0
+     */
+    public InterceptorChain getInterceptorChain() {
+        InterceptorChain chain = interceptorChain;
+        if (chain == null) {
+            chain = new InterceptorChain(interceptors);
+            interceptorChain = chain;
+        }
+        return chain;
+    }
+
     public Set<String> getAllowedMethods() {
         return allowedMethods.list();
     }
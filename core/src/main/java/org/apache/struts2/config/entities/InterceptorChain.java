@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.config.entities;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable, index based snapshot of the interceptors of an {@link ActionConfig}, built once per configuration
+ * and shared by all the invocations of the action.
+ *
+ * @since 7.1.0
+ */
+public final class InterceptorChain {
+
+    private final InterceptorMapping[] mappings;
+
+    public InterceptorChain(List<InterceptorMapping> interceptors) {
+        this.mappings = interceptors.toArray(new InterceptorMapping[0]);
+    }
+
+    public int size() {
+        return mappings.length;
+    }
+
+    public InterceptorMapping get(int index) {
+        return mappings[index];
+    }
+
+    /**
+     * @return a new cursor over the chain, it doesn't copy the interceptors
+     */
+    public Iterator<InterceptorMapping> iterator() {
+        return new Cursor();
+    }
+
+    private final class Cursor implements Iterator<InterceptorMapping> {
+
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < mappings.length;
+        }
+
+        @Override
+        public InterceptorMapping next() {
+            if (index >= mappings.length) {
+                throw new NoSuchElementException();
+            }
+            return mappings[index++];
+        }
+    }
+}
@@ -18,7 +18,9 @@
  */
 package org.apache.struts2.config.entities;
 
+import org.apache.struts2.interceptor.ConditionalInterceptor;
 import org.apache.struts2.interceptor.Interceptor;
+import org.apache.struts2.interceptor.WithLazyParams;
 
 import java.io.Serializable;
 import java.util.HashMap;
@@ -36,6 +38,8 @@ public class InterceptorMapping implements Serializable {
     private final String name;
     private final Interceptor interceptor;
     private final Map<String, String> params;
+    private final boolean withLazyParams;
+    private final boolean conditional;
 
     public InterceptorMapping(String name, Interceptor interceptor) {
         this(name, interceptor, new HashMap<>());
@@ -45,6 +49,8 @@ public class InterceptorMapping implements Serializable {
         this.name = name;
         this.interceptor = interceptor;
         this.params = params;
+        this.withLazyParams = interceptor instanceof WithLazyParams;
+        this.conditional = interceptor instanceof ConditionalInterceptor;
     }
 
     public String getName() {
@@ -59,6 +65,22 @@ public class InterceptorMapping implements Serializable {
         return params;
     }
 
+    /**
+     * @return true if params of the interceptor must be injected just before its usage
+     * @since 7.1.0
+     */
+    public boolean isWithLazyParams() {
+        return withLazyParams;
+    }
+
+    /**
+     * @return true if the interceptor is a {@link ConditionalInterceptor}
+     * @since 7.1.0
+     */
+    public boolean isConditional() {
+        return conditional;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -28,6 +28,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsConstants;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -39,7 +41,13 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
@@ -67,6 +75,17 @@ import java.util.StringTokenizer;
  * careful</b>, however, to expose any packages that may have sensitive information, such as properties file with
  * database access credentials.
  * </p>
+ *
+ * <p>
+ * When {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE} and browser caching are enabled and devMode is off,
+ * resolved resources are kept in memory, within {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE_MAX_SIZE} bytes
+ * in total and {@link #MAX_CACHED_RESOURCE_SIZE} bytes per resource, and served with a strong ETag, honouring
+ * <code>If-None-Match</code>, single <code>Range</code> requests and <code>Accept-Encoding</code>.
+ * A pre-compressed <code>.br</code> or <code>.gz</code> sibling of a resource is served when the client accepts it,
+ * text resources are otherwise gzipped once in memory. Cached resources are served by
+ * {@link #process(CachedResource, HttpServletRequest, HttpServletResponse)} and written with {@link #copy(InputStream, OutputStream)};
+ * resources are not cached when a subclass overrides {@link #process(InputStream, String, HttpServletRequest, HttpServletResponse)}.
+ * </p>
  */
 public class DefaultStaticContentLoader implements StaticContentLoader {
 
@@ -107,6 +126,43 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
 
     protected boolean devMode;
 
+    /**
+     * Maximum size in bytes of a resource kept in memory, bigger resources are streamed from the classpath.
+     */
+    protected static final int MAX_CACHED_RESOURCE_SIZE = 512 * 1024;
+
+    /**
+     * Default of {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE_MAX_SIZE}.
+     */
+    protected static final long DEFAULT_CACHE_MAX_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * Store state of {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE} setting.
+     */
+    protected boolean serveStaticCache;
+
+    /**
+     * Store state of {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE_MAX_SIZE} setting.
+     */
+    protected long serveStaticCacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+
+    /**
+     * Maximum number of resource names remembered as not cacheable, the set is cleared when it grows beyond.
+     */
+    private static final int MAX_UNCACHEABLE_RESOURCES = 10000;
+
+    private static final int MIN_COMPRESSIBLE_SIZE = 1024;
+
+    private static final byte[] TOO_LARGE = new byte[0];
+
+    private final Map<String, CachedResource> cachedResources = new ConcurrentHashMap<>();
+
+    private final Set<String> uncacheableResources = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong cachedBytes = new AtomicLong();
+
+    private final boolean customStreaming = overridesStreaming(getClass());
+
     /**
      * Modify state of StrutsConstants.STRUTS_SERVE_STATIC_CONTENT setting.
      *
@@ -133,6 +189,28 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         this.serveStaticBrowserCache = BooleanUtils.toBoolean(serveStaticBrowserCache);
     }
 
+    /**
+     * Modify state of {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE} setting.
+     *
+     * @param serveStaticCache New setting
+     * @since 7.1.0
+     */
+    @Inject(value = StrutsConstants.STRUTS_SERVE_STATIC_CACHE, required = false)
+    public void setServeStaticCache(String serveStaticCache) {
+        this.serveStaticCache = BooleanUtils.toBoolean(serveStaticCache);
+    }
+
+    /**
+     * Modify state of {@link StrutsConstants#STRUTS_SERVE_STATIC_CACHE_MAX_SIZE} setting.
+     *
+     * @param serveStaticCacheMaxSize New setting, total size in bytes of the resources kept in memory
+     * @since 7.1.0
+     */
+    @Inject(value = StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_SIZE, required = false)
+    public void setServeStaticCacheMaxSize(String serveStaticCacheMaxSize) {
+        this.serveStaticCacheMaxSize = Long.parseLong(serveStaticCacheMaxSize.trim());
+    }
+
     /**
      * Modify state of StrutsConstants.STRUTS_I18N_ENCODING setting.
      *
@@ -209,25 +287,37 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
     public void findStaticResource(String path, HttpServletRequest request, HttpServletResponse response)
         throws IOException {
         String name = cleanupPath(path);
+        boolean caching = isCachingResources();
+        if (caching) {
+            CachedResource cachedResource = cachedResources.get(name);
+            if (cachedResource != null) {
+                process(cachedResource, request, response);
+                return;
+            }
+        }
         for (String pathPrefix : pathPrefixes) {
-            URL resourceUrl = findResource(buildPath(name, pathPrefix));
-            if (resourceUrl != null) {
-                InputStream is = null;
+            String resourcePath = buildPath(name, pathPrefix);
+            URL resourceUrl = findResource(resourcePath);
+            //check that the resource path is under the pathPrefix path
+            if (resourceUrl != null && resourceUrl.getFile().endsWith(resourcePath)) {
+                if (caching) {
+                    CachedResource cachedResource = cacheResource(name, path, resourcePath, resourceUrl);
+                    if (cachedResource != null) {
+                        process(cachedResource, request, response);
+                        return;
+                    }
+                }
+                InputStream is;
                 try {
-                    //check that the resource path is under the pathPrefix path
-                    String pathEnding = buildPath(name, pathPrefix);
-                    if (resourceUrl.getFile().endsWith(pathEnding))
-                        is = resourceUrl.openStream();
+                    is = resourceUrl.openStream();
                 } catch (IOException ex) {
                     // just ignore it
                     continue;
                 }
 
                 //not inside the try block, as this could throw IOExceptions also
-                if (is != null) {
-                    process(is, path, request, response);
-                    return;
-                }
+                process(is, path, request, response);
+                return;
             }
         }
 
@@ -273,18 +363,7 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
                 response.setContentType(contentType);
             }
 
-            if (serveStaticBrowserCache) {
-                // set heading information for caching static content
-                response.setDateHeader("Date", now);
-                response.setDateHeader("Expires", expires);
-                response.setDateHeader("Retry-After", expires);
-                response.setHeader("Cache-Control", "public");
-                response.setDateHeader("Last-Modified", lastModifiedMillis);
-            } else {
-                response.setHeader("Cache-Control", "no-cache");
-                response.setHeader("Pragma", "no-cache");
-                response.setHeader("Expires", "-1");
-            }
+            setCacheHeaders(response, now, expires, lastModifiedMillis);
 
             try (is) {
                 copy(is, response.getOutputStream());
@@ -292,6 +371,316 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         }
     }
 
+    private void setCacheHeaders(HttpServletResponse response, long now, long expires, long lastModifiedMillis) {
+        if (serveStaticBrowserCache) {
+            // set heading information for caching static content
+            response.setDateHeader("Date", now);
+            response.setDateHeader("Expires", expires);
+            response.setDateHeader("Retry-After", expires);
+            response.setHeader("Cache-Control", "public");
+            response.setDateHeader("Last-Modified", lastModifiedMillis);
+        } else {
+            response.setHeader("Cache-Control", "no-cache");
+            response.setHeader("Pragma", "no-cache");
+            response.setHeader("Expires", "-1");
+        }
+    }
+
+    /**
+     * @return true if resolved resources can be kept in memory, resources may change in devMode
+     */
+    protected boolean isCachingResources() {
+        return serveStaticCache && serveStaticCacheMaxSize > 0 && serveStaticBrowserCache && !devMode && !customStreaming;
+    }
+
+    /**
+     * Reads the resolved resource and keeps it in memory if it fits in the budget.
+     *
+     * @return the resource or null if it cannot be cached, in such case it is streamed
+     */
+    private CachedResource cacheResource(String name, String path, String resourcePath, URL resourceUrl) throws IOException {
+        if (uncacheableResources.contains(name)) {
+            return null;
+        }
+        if (cachedBytes.get() >= serveStaticCacheMaxSize) {
+            // nothing can be stored anymore, do not read nor compress the resource only to drop it
+            markUncacheable(name);
+            return null;
+        }
+        byte[] content = readResource(resourceUrl);
+        if (content == TOO_LARGE) {
+            markUncacheable(name);
+            return null;
+        }
+        if (content == null) {
+            return null;
+        }
+        String contentType = getContentType(path);
+        byte[] gzipped = readVariant(findResource(resourcePath + ".gz"));
+        if (gzipped == null && isCompressible(contentType, content)) {
+            gzipped = gzip(content);
+        }
+        byte[] brotli = readVariant(findResource(resourcePath + ".br"));
+
+        CachedResource cachedResource = new CachedResource(content, contentType, gzipped, brotli);
+        if (!reserve(cachedResource.getSize())) {
+            markUncacheable(name);
+        } else if (cachedResources.putIfAbsent(name, cachedResource) != null) {
+            cachedBytes.addAndGet(-cachedResource.getSize());
+        }
+        return cachedResource;
+    }
+
+    private boolean reserve(long size) {
+        long current;
+        do {
+            current = cachedBytes.get();
+            if (current + size > serveStaticCacheMaxSize) {
+                return false;
+            }
+        } while (!cachedBytes.compareAndSet(current, current + size));
+        return true;
+    }
+
+    private void markUncacheable(String name) {
+        if (uncacheableResources.size() >= MAX_UNCACHEABLE_RESOURCES) {
+            uncacheableResources.clear();
+        }
+        uncacheableResources.add(name);
+    }
+
+    private static boolean overridesStreaming(Class<?> loaderClass) {
+        for (Class<?> clazz = loaderClass; clazz != DefaultStaticContentLoader.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod("process", InputStream.class, String.class, HttpServletRequest.class, HttpServletResponse.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden at this level
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return content of the resource, null if it does not exist or cannot be read,
+     * or {@link #TOO_LARGE} if it is too big to be cached
+     */
+    private byte[] readResource(URL resourceUrl) {
+        if (resourceUrl == null) {
+            return null;
+        }
+        int maxSize = (int) Math.min(MAX_CACHED_RESOURCE_SIZE, serveStaticCacheMaxSize);
+        try (InputStream is = resourceUrl.openStream()) {
+            byte[] content = is.readNBytes(maxSize + 1);
+            return content.length > maxSize ? TOO_LARGE : content;
+        } catch (IOException e) {
+            LOG.debug("Unable to read static resource [{}]", resourceUrl, e);
+            return null;
+        }
+    }
+
+    private byte[] readVariant(URL resourceUrl) {
+        byte[] content = readResource(resourceUrl);
+        return content == TOO_LARGE ? null : content;
+    }
+
+    private boolean isCompressible(String contentType, byte[] content) {
+        return contentType != null && content.length >= MIN_COMPRESSIBLE_SIZE
+            && (contentType.startsWith("text/") || contentType.endsWith("javascript"));
+    }
+
+    private byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content);
+        }
+        return bytes.size() < content.length ? bytes.toByteArray() : null;
+    }
+
+    /**
+     * Serves a resource kept in memory, the counterpart of {@link #process(InputStream, String, HttpServletRequest, HttpServletResponse)}
+     * for cached resources.
+     *
+     * @param resource the cached resource
+     * @param request  the current request
+     * @param response the current response
+     * @throws IOException If the response cannot be written
+     * @since 7.1.0
+     */
+    protected void process(CachedResource resource, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Calendar cal = Calendar.getInstance();
+        long lastModifiedMillis = lastModifiedCal.getTimeInMillis();
+        long now = cal.getTimeInMillis();
+        cal.add(Calendar.DAY_OF_MONTH, 1);
+        long expires = cal.getTimeInMillis();
+
+        // ranges are only served from the identity body, each content-coding has its own strong ETag
+        byte[] content = resource.content;
+        String etag = resource.etag;
+        String contentEncoding = null;
+        String range = request.getHeader("Range");
+        boolean rangeRequested = range != null && isRangeApplicable(resource, request);
+        if (!rangeRequested) {
+            String acceptEncoding = request.getHeader("Accept-Encoding");
+            if (resource.brotli != null && acceptsEncoding(acceptEncoding, "br")) {
+                contentEncoding = "br";
+                content = resource.brotli;
+                etag = resource.brotliEtag;
+            } else if (resource.gzipped != null && acceptsEncoding(acceptEncoding, "gzip")) {
+                contentEncoding = "gzip";
+                content = resource.gzipped;
+                etag = resource.gzipEtag;
+            }
+        }
+
+        if (isNotModified(resource, request, lastModifiedMillis)) {
+            // not modified, content is not sent - only basic
+            // headers and status SC_NOT_MODIFIED
+            response.setHeader("ETag", etag);
+            setVaryHeader(resource, response);
+            response.setDateHeader("Expires", expires);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        if (resource.contentType != null) {
+            response.setContentType(resource.contentType);
+        }
+        setCacheHeaders(response, now, expires, lastModifiedMillis);
+        response.setHeader("ETag", etag);
+        response.setHeader("Accept-Ranges", "bytes");
+        setVaryHeader(resource, response);
+        if (contentEncoding != null) {
+            response.setHeader("Content-Encoding", contentEncoding);
+        }
+
+        int offset = 0;
+        int length = content.length;
+        if (rangeRequested) {
+            long[] bounds = parseRange(range, content.length);
+            if (bounds == UNSATISFIABLE_RANGE) {
+                response.setHeader("Content-Range", "bytes */" + content.length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                offset = (int) bounds[0];
+                length = (int) (bounds[1] - bounds[0] + 1);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", "bytes " + bounds[0] + "-" + bounds[1] + "/" + content.length);
+            }
+        }
+
+        response.setContentLength(length);
+        copy(new ByteArrayInputStream(content, offset, length), response.getOutputStream());
+    }
+
+    private void setVaryHeader(CachedResource resource, HttpServletResponse response) {
+        if (resource.gzipped != null || resource.brotli != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+    }
+
+    private boolean isNotModified(CachedResource resource, HttpServletRequest request, long lastModifiedMillis) {
+        // If-None-Match takes precedence over If-Modified-Since
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return matchesETag(ifNoneMatch, resource.etag)
+                || (resource.gzipped != null && matchesETag(ifNoneMatch, resource.gzipEtag))
+                || (resource.brotli != null && matchesETag(ifNoneMatch, resource.brotliEtag));
+        }
+        long ifModifiedSince = 0;
+        try {
+            ifModifiedSince = request.getDateHeader("If-Modified-Since");
+        } catch (Exception e) {
+            LOG.warn("Invalid If-Modified-Since header value: '{}', ignoring", request.getHeader("If-Modified-Since"));
+        }
+        return ifModifiedSince > 0 && ifModifiedSince <= lastModifiedMillis;
+    }
+
+    /**
+     * Ranges are always taken from the identity body, so If-Range only matches the identity ETag.
+     */
+    private boolean isRangeApplicable(CachedResource resource, HttpServletRequest request) {
+        String ifRange = request.getHeader("If-Range");
+        return ifRange == null || ifRange.trim().equals(resource.etag);
+    }
+
+    private static boolean matchesETag(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(encoding)) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            return Double.parseDouble(param.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final long[] UNSATISFIABLE_RANGE = new long[0];
+
+    /**
+     * Parses a single byte range, multiple ranges are not supported and the whole content is returned for them.
+     *
+     * @return inclusive bounds of the range, null if the range should be ignored or {@link #UNSATISFIABLE_RANGE}
+     */
+    private static long[] parseRange(String range, int contentLength) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') != -1) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                long suffixLength = Long.parseLong(spec.substring(1));
+                if (suffixLength == 0) {
+                    return UNSATISFIABLE_RANGE;
+                }
+                start = Math.max(0, contentLength - suffixLength);
+                end = contentLength - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? contentLength - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), contentLength - 1);
+            }
+            if (start >= contentLength || start > end) {
+                return UNSATISFIABLE_RANGE;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * Look for a static resource in the classpath.
      *
@@ -380,4 +769,84 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
             return path;
         }
     }
+
+    /**
+     * Static resource kept in memory together with its pre-compressed variants.
+     *
+     * @since 7.1.0
+     */
+    protected static final class CachedResource {
+        private final byte[] content;
+        private final String contentType;
+        private final byte[] gzipped;
+        private final byte[] brotli;
+        private final String etag;
+        private final String gzipEtag;
+        private final String brotliEtag;
+
+        /**
+         * @param content     the resource
+         * @param contentType content type of the resource, may be null
+         * @param gzipped     gzip encoded resource, null if not available
+         * @param brotli      br encoded resource, null if not available
+         */
+        public CachedResource(byte[] content, String contentType, byte[] gzipped, byte[] brotli) {
+            this.content = content;
+            this.contentType = contentType;
+            this.gzipped = gzipped;
+            this.brotli = brotli;
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            String tag = Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(content.length);
+            this.etag = "\"" + tag + "\"";
+            this.gzipEtag = "\"" + tag + "-gzip\"";
+            this.brotliEtag = "\"" + tag + "-br\"";
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+
+        public byte[] getBrotli() {
+            return brotli;
+        }
+
+        /**
+         * @return strong ETag of the identity body
+         */
+        public String getETag() {
+            return etag;
+        }
+
+        /**
+         * @return strong ETag of the gzip body
+         */
+        public String getGzipETag() {
+            return gzipEtag;
+        }
+
+        /**
+         * @return strong ETag of the br body
+         */
+        public String getBrotliETag() {
+            return brotliEtag;
+        }
+
+        /**
+         * @return number of bytes held in memory by all the variants
+         */
+        public long getSize() {
+            return (long) content.length
+                + (gzipped != null ? gzipped.length : 0)
+                + (brotli != null ? brotli.length : 0);
+        }
+    }
 }
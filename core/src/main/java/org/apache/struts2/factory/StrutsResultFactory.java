@@ -18,6 +18,8 @@
  */
 package org.apache.struts2.factory;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ObjectFactory;
 import org.apache.struts2.config.ConfigurationException;
 import org.apache.struts2.config.entities.ResultConfig;
@@ -28,16 +30,30 @@ import org.apache.struts2.util.reflection.ReflectionException;
 import org.apache.struts2.util.reflection.ReflectionExceptionHandler;
 import org.apache.struts2.util.reflection.ReflectionProvider;
 
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Default implementation which uses {@link ParamNameAwareResult} to accept or throw away parameters
+ * Default implementation which uses {@link ParamNameAwareResult} to accept or throw away parameters.
+ * <p>
+ * Plain String properties of results are set through setters resolved once per result class and parameter name,
+ * all other parameters are set using {@link ReflectionProvider}.
  */
 public class StrutsResultFactory implements ResultFactory {
 
+    private static final Logger LOG = LogManager.getLogger(StrutsResultFactory.class);
+
     protected ObjectFactory objectFactory;
     protected ReflectionProvider reflectionProvider;
 
+    private final Map<Class<?>, Map<String, Optional<MethodHandle>>> stringSetters = new ConcurrentHashMap<>();
+
     @Inject
     public void setObjectFactory(ObjectFactory objectFactory) {
         this.objectFactory = objectFactory;
@@ -84,7 +100,40 @@ public class StrutsResultFactory implements ResultFactory {
 
     protected void setParameter(Result result, String name, String value, Map<String, Object> extraContext) {
         if (!(result instanceof ParamNameAwareResult paramNameAwareResult) || paramNameAwareResult.acceptableParameterName(name, value)) {
-            reflectionProvider.setProperty(name, value, result, extraContext, true);
+            Optional<MethodHandle> setter = findStringSetter(result.getClass(), name);
+            if (setter.isPresent()) {
+                invokeSetter(setter.get(), result, name, value);
+            } else {
+                reflectionProvider.setProperty(name, value, result, extraContext, true);
+            }
+        }
+    }
+
+    private Optional<MethodHandle> findStringSetter(Class<?> resultClass, String name) {
+        return stringSetters.computeIfAbsent(resultClass, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, k -> resolveStringSetter(resultClass, name));
+    }
+
+    private Optional<MethodHandle> resolveStringSetter(Class<?> resultClass, String name) {
+        try {
+            PropertyDescriptor descriptor = reflectionProvider.getPropertyDescriptor(resultClass, name);
+            Method writeMethod = descriptor != null ? descriptor.getWriteMethod() : null;
+            if (writeMethod == null || writeMethod.getParameterTypes()[0] != String.class) {
+                return Optional.empty();
+            }
+            return Optional.of(MethodHandles.publicLookup().unreflect(writeMethod)
+                    .asType(MethodType.methodType(void.class, Object.class, String.class)));
+        } catch (Exception e) {
+            LOG.debug("Cannot resolve setter of [{}] in [{}], falling back to ReflectionProvider", name, resultClass, e);
+            return Optional.empty();
+        }
+    }
+
+    private void invokeSetter(MethodHandle setter, Result result, String name, String value) {
+        try {
+            setter.invokeExact((Object) result, value);
+        } catch (Throwable t) {
+            throw new ReflectionException("Error setting '" + name + "' on '" + result.getClass().getName() + "'", t, result);
         }
     }
 
@@ -19,6 +19,9 @@ import org.apache.struts2.inject.util.ReferenceCache;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
@@ -170,11 +173,46 @@ class ContainerImpl implements Container {
             Modifier.isPublic(member.getDeclaringClass().getModifiers());
     }
 
+    /**
+     * Unreflects the given member into a {@link MethodHandle} adapted to the given generic type, this allows
+     * injecting without going through {@link Field#set(Object, Object)} / {@link Method#invoke(Object, Object...)}
+     * on each call.
+     *
+     * @return the adapted method handle or null if the member cannot be unreflected, the caller falls back
+     * to plain reflection in such case
+     */
+    private static MethodHandle unreflect(AccessibleObject member, MethodType type) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle handle;
+            if (member instanceof Field) {
+                handle = lookup.unreflectSetter((Field) member);
+            } else if (member instanceof Method) {
+                final Method method = (Method) member;
+                handle = lookup.unreflect(method).asSpreader(Object[].class, method.getParameterCount());
+            } else {
+                final Constructor<?> constructor = (Constructor<?>) member;
+                handle = lookup.unreflectConstructor(constructor).asSpreader(Object[].class, constructor.getParameterCount());
+            }
+            return handle.asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Wraps a failure raised by a {@link MethodHandle} target the same way as the reflective path reports it.
+     */
+    private static RuntimeException wrapInvocationFailure(Throwable t) {
+        return new RuntimeException(new InvocationTargetException(t));
+    }
+
     static class FieldInjector implements Injector {
 
         final Field field;
         final InternalFactory<?> factory;
         final ExternalContext<?> externalContext;
+        transient MethodHandle setter;
 
         public FieldInjector(ContainerImpl container, Field field, String name)
             throws MissingDependencyException {
@@ -199,6 +237,7 @@ class ContainerImpl implements Container {
             }
 
             this.externalContext = ExternalContext.newInstance(field, key, container);
+            this.setter = unreflect(field, MethodType.methodType(void.class, Object.class, Object.class));
         }
 
         @Override
@@ -206,9 +245,18 @@ class ContainerImpl implements Container {
             final ExternalContext<?> previous = context.getExternalContext();
             context.setExternalContext(externalContext);
             try {
-                field.set(o, factory.create(context));
+                final Object value = factory.create(context);
+                if (setter != null) {
+                    setter.invokeExact(o, value);
+                } else {
+                    field.set(o, value);
+                }
             } catch (IllegalAccessException e) {
                 throw new AssertionError(e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new AssertionError(t);
             } finally {
                 context.setExternalContext(previous);
             }
@@ -324,6 +372,7 @@ class ContainerImpl implements Container {
 
         final Method method;
         final ParameterInjector<?>[] parameterInjectors;
+        transient MethodHandle invoker;
 
         public MethodInjector(ContainerImpl container, Method method, String name) throws MissingDependencyException {
             this.method = method;
@@ -346,15 +395,26 @@ class ContainerImpl implements Container {
             }
             parameterInjectors = container.getParametersInjectors(
                 method, method.getParameterAnnotations(), parameterTypes, name);
+            invoker = unreflect(method, MethodType.methodType(void.class, Object.class, Object[].class));
         }
 
         @Override
         public void inject(InternalContext context, Object o) {
+            final Object[] parameters;
             try {
-                method.invoke(o, getParameters(method, context, parameterInjectors));
+                parameters = getParameters(method, context, parameterInjectors);
+                if (invoker == null) {
+                    method.invoke(o, parameters);
+                    return;
+                }
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
+            try {
+                invoker.invokeExact(o, parameters);
+            } catch (Throwable t) {
+                throw wrapInvocationFailure(t);
+            }
         }
     }
 
@@ -371,6 +431,7 @@ class ContainerImpl implements Container {
         final List<Injector> injectors;
         final Constructor<T> constructor;
         final ParameterInjector<?>[] parameterInjectors;
+        final MethodHandle instantiator;
 
         ConstructorInjector(ContainerImpl container, Class<T> implementation) {
             this.implementation = implementation;
@@ -407,6 +468,19 @@ class ContainerImpl implements Container {
                 }
             }
             injectors = container.injectors.get(implementation);
+            instantiator = unreflect(constructor, MethodType.methodType(Object.class, Object[].class));
+        }
+
+        @SuppressWarnings("unchecked")
+        private T newInstance(Object[] parameters) throws InstantiationException, IllegalAccessException, InvocationTargetException {
+            if (instantiator == null) {
+                return constructor.newInstance(parameters);
+            }
+            try {
+                return (T) instantiator.invokeExact(parameters);
+            } catch (Throwable t) {
+                throw wrapInvocationFailure(t);
+            }
         }
 
         List<ParameterInjector<?>> constructParameterInjector(
@@ -472,7 +546,7 @@ class ContainerImpl implements Container {
                 constructionContext.startConstruction();
                 try {
                     final Object[] parameters = getParameters(constructor, context, parameterInjectors);
-                    t = constructor.newInstance(parameters);
+                    t = newInstance(parameters);
                     constructionContext.setProxyDelegates(t);
                 } finally {
                     constructionContext.finishConstruction();
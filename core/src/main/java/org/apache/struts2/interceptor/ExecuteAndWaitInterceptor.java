@@ -38,6 +38,11 @@ import org.apache.struts2.views.freemarker.FreemarkerResult;
 
 import java.io.Serial;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -71,9 +76,9 @@ import java.util.Map;
  * </p>
  *
  * <p>This interceptor also supports using an initial wait delay. An initial delay is a time in milliseconds we let the
- * server wait before the wait page is shown to the user. During the wait this interceptor will wake every 100 millis
- * to check if the background process is done premature, thus if the job for some reason doesn't take to long the wait
- * page is not shown to the user.
+ * server wait before the wait page is shown to the user. The wait ends as soon as the background process is done,
+ * thus if the job for some reason doesn't take to long the wait page is not shown to the user. The session is not
+ * locked during the wait, so other requests of the same session are not blocked.
  * <br> This is useful for e.g. search actions that have a wide span of execution time. Using a delay time of 2000
  * millis we ensure the user is presented fast search results immediately and for the slow results a wait page is used.
  * </p>
@@ -96,7 +101,8 @@ import java.util.Map;
  *
  * <li>threadPriority (optional) - the priority to assign the thread. Default is <code>Thread.NORM_PRIORITY</code>.</li>
  * <li>delay (optional) - an initial delay in millis to wait before the wait page is shown (returning <code>wait</code> as result code). Default is no initial delay.</li>
- * <li>delaySleepInterval (optional) - only used with delay. Used for waking up at certain intervals to check if the background process is already done. Default is 100 millis.</li>
+ * <li>delaySleepInterval (optional) - only used with delay. Used for waking up at certain intervals to check if a background process not exposing its completion is already done. Default is 100 millis.</li>
+ * <li>longPollTimeout (optional) - time in millis a subsequent request waits for the running background process to complete before the wait page is shown, allowing the wait page to long-poll. Default is no wait.</li>
  *
  * </ul>
  * <p>
@@ -187,6 +193,7 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
     protected int delay;
     protected int delaySleepInterval = 100; // default sleep 100 millis before checking if background process is done
     protected boolean executeAfterValidationPass = false;
+    protected int longPollTimeout;
 
     private int threadPriority = Thread.NORM_PRIORITY;
 
@@ -212,7 +219,7 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
      * @return The new process
      */
     protected BackgroundProcess getNewBackgroundProcess(String name, ActionInvocation actionInvocation, int threadPriority) {
-        return new StrutsBackgroundProcess(actionInvocation, name + "_background-process", threadPriority);
+        return new StrutsBackgroundProcess(actionInvocation, name + "_background-process", threadPriority, false);
     }
 
     /**
@@ -237,11 +244,15 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         Map<String, Object> session = context.getSession();
         HttpSession httpSession = ServletActionContext.getRequest().getSession(true);
 
+        final String bp_SessionKey = KEY + name;
+        BackgroundProcess bp;
+        Boolean secondTime = true;
+        boolean started = false;
+
         //sync on the real HttpSession as the session from the context is a wrap that is created
         //on every request
         synchronized (httpSession) {
             // State flag processing moved within the synchronization block, to ensure consistency.
-            Boolean secondTime = true;
             if (executeAfterValidationPass) {
                 secondTime = (Boolean) context.get(KEY);
                 if (secondTime == null) {
@@ -253,8 +264,7 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
                 }
             }
 
-            final String bp_SessionKey = KEY + name;
-            BackgroundProcess bp = (BackgroundProcess) session.get(bp_SessionKey);
+            bp = (BackgroundProcess) session.get(bp_SessionKey);
 
             LOG.debug("Intercepting invocation for BackgroundProcess - session key: {}, value: {}", bp_SessionKey, bp);
 
@@ -273,57 +283,91 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
                     LOG.warn("Executor is shutting down (or null), cannot execute a new process, invoke next ActionInvocation step and return.");
                     return actionInvocation.invoke();
                 }
-                executor.execute(bp);
-                performInitialDelay(bp); // first time let some time pass before showing wait page
+                try {
+                    executor.execute(bp);
+                } catch (RejectedExecutionException e) {
+                    session.remove(bp_SessionKey);
+                    throw e;
+                }
+                started = true;
                 secondTime = false;
             }
 
-            if ((!executeAfterValidationPass || !secondTime) && bp != null && !bp.isDone()) {
-                LOG.trace("BackgroundProcess instance is not done (wait processing) - executeAfterValidationPass: {}, secondTime: {}.", executeAfterValidationPass, secondTime);
-                actionInvocation.getStack().push(bp.getAction());
+            boolean waitForProcess = started ? delay > 0 : longPollTimeout > 0 && isRunning(bp, secondTime);
+            if (!waitForProcess) {
+                return processBackgroundProcess(actionInvocation, bp_SessionKey, bp, secondTime);
+            }
+        }
 
-                final String token = TokenHelper.getToken();
-                if (token != null) {
-                    TokenHelper.setSessionToken(TokenHelper.getTokenName(), token);
-                }
+        // wait outside the session lock, so other requests of the same session are not blocked
+        if (started) {
+            performInitialDelay(bp); // first time let some time pass before showing wait page
+        } else {
+            LOG.debug("Waiting up to {} millis for the background process to complete", longPollTimeout);
+            awaitDone(bp, longPollTimeout);
+        }
 
-                Map<String, ResultConfig> results = proxy.getConfig().getResults();
-                if (!results.containsKey(WAIT)) {
-                    LOG.warn("ExecuteAndWait interceptor has detected that no result named 'wait' is available. " +
-                        "Defaulting to a plain built-in wait page. It is highly recommend you " +
-                        "provide an action-specific or global result named '{}'.", WAIT);
-                    // no wait result? hmm -- let's try to do dynamically put it in for you!
-
-                    //we used to add a fake "wait" result here, since the configuration is unmodifiable, that is no longer
-                    //an option, see WW-3068
-                    FreemarkerResult waitResult = new FreemarkerResult();
-                    container.inject(waitResult);
-                    waitResult.setLocation("/org/apache/struts2/interceptor/wait.ftl");
-                    waitResult.execute(actionInvocation);
-
-                    return Action.NONE;
-                }
+        synchronized (httpSession) {
+            return processBackgroundProcess(actionInvocation, bp_SessionKey, bp, secondTime);
+        }
+    }
 
-                return WAIT;
-            } else if ((!executeAfterValidationPass || !secondTime) && bp != null && bp.isDone()) {
-                LOG.trace("BackgroundProcess instance is done (remove key, return result) - executeAfterValidationPass: {}, secondTime: {}.", executeAfterValidationPass, secondTime);
-                session.remove(bp_SessionKey);
-                actionInvocation.getStack().push(bp.getAction());
+    private boolean isRunning(BackgroundProcess bp, boolean secondTime) {
+        return (!executeAfterValidationPass || !secondTime) && bp != null && !bp.isDone();
+    }
 
-                // if an exception occurred during action execution, throw it here
-                if (bp.getException() != null) {
-                    throw bp.getException();
-                }
+    private String processBackgroundProcess(ActionInvocation actionInvocation, String bp_SessionKey, BackgroundProcess bp, boolean secondTime) throws Exception {
+        ActionProxy proxy = actionInvocation.getProxy();
+        Map<String, Object> session = actionInvocation.getInvocationContext().getSession();
+
+        if (isRunning(bp, secondTime)) {
+            LOG.trace("BackgroundProcess instance is not done (wait processing) - executeAfterValidationPass: {}, secondTime: {}.", executeAfterValidationPass, secondTime);
+            actionInvocation.getStack().push(bp.getAction());
+
+            final String token = TokenHelper.getToken();
+            if (token != null) {
+                TokenHelper.setSessionToken(TokenHelper.getTokenName(), token);
+            }
 
-                return bp.getResult();
-            } else {
-                LOG.trace("BackgroundProcess state fall-through (first instance, pass through), invoke next ActionInvocation step and return - executeAfterValidationPass: {}, secondTime: {}.", executeAfterValidationPass, secondTime);
-                // this is the first instance of the interceptor and there is no existing action
-                // already run in the background, so let's just let this pass through. We assume
-                // the action invocation will be run in the background on the subsequent pass through
-                // this interceptor
-                return actionInvocation.invoke();
+            Map<String, ResultConfig> results = proxy.getConfig().getResults();
+            if (!results.containsKey(WAIT)) {
+                LOG.warn("ExecuteAndWait interceptor has detected that no result named 'wait' is available. " +
+                    "Defaulting to a plain built-in wait page. It is highly recommend you " +
+                    "provide an action-specific or global result named '{}'.", WAIT);
+                // no wait result? hmm -- let's try to do dynamically put it in for you!
+
+                //we used to add a fake "wait" result here, since the configuration is unmodifiable, that is no longer
+                //an option, see WW-3068
+                FreemarkerResult waitResult = new FreemarkerResult();
+                container.inject(waitResult);
+                waitResult.setLocation("/org/apache/struts2/interceptor/wait.ftl");
+                waitResult.execute(actionInvocation);
+
+                return Action.NONE;
             }
+
+            return WAIT;
+        } else if ((!executeAfterValidationPass || !secondTime) && bp != null && bp.isDone()) {
+            LOG.trace("BackgroundProcess instance is done (remove key, return result) - executeAfterValidationPass: {}, secondTime: {}.", executeAfterValidationPass, secondTime);
+            // another request may have replaced the process while this one waited outside the session lock
+            if (session.get(bp_SessionKey) == bp) {
+                session.remove(bp_SessionKey);
+            }
+            actionInvocation.getStack().push(bp.getAction());
+
+            // if an exception occurred during action execution, throw it here
+            if (bp.getException() != null) {
+                throw bp.getException();
+            }
+
+            return bp.getResult();
+        } else {
+            LOG.trace("BackgroundProcess state fall-through (first instance, pass through), invoke next ActionInvocation step and return - executeAfterValidationPass: {}, secondTime: {}.", executeAfterValidationPass, secondTime);
+            // this is the first instance of the interceptor and there is no existing action
+            // already run in the background, so let's just let this pass through. We assume
+            // the action invocation will be run in the background on the subsequent pass through
+            // this interceptor
+            return actionInvocation.invoke();
         }
     }
 
@@ -335,26 +379,41 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
      * <p>
      * When this interceptor is executed for the first time this methods handles any provided initial delay.
      * An initial delay is a time in milliseconds we let the server wait before we continue.
-     * <br> During the wait this interceptor will wake every 100 millis to check if the background
-     * process is done premature, thus if the job for some reason doesn't take to long the wait
-     * page is not shown to the user.
+     * <br> The wait ends as soon as the background process is done, thus if the job for some reason doesn't
+     * take to long the wait page is not shown to the user. The session is not locked during the wait.
      * </p>
      *
      * @param bp the background process
-     * @throws InterruptedException is thrown by Thread.sleep
+     * @throws InterruptedException if interrupted while waiting
      */
     protected void performInitialDelay(BackgroundProcess bp) throws InterruptedException {
         if (delay <= 0 || delaySleepInterval <= 0) {
             return;
         }
 
-        int steps = delay / delaySleepInterval;
-        LOG.debug("Delaying for {} millis. (using {} steps)", delay, steps);
-        int step;
-        for (step = 0; step < steps && !bp.isDone(); step++) {
-            Thread.sleep(delaySleepInterval);
+        LOG.debug("Delaying for {} millis", delay);
+        awaitDone(bp, delay);
+        LOG.debug("Delay ended and the background process is {}", (bp.isDone() ? " done" : " not done"));
+    }
+
+    /**
+     * Waits until the background process is done or the timeout elapses, processes not exposing their
+     * completion are polled every "delaySleepInterval" millis.
+     */
+    private void awaitDone(BackgroundProcess bp, long timeout) throws InterruptedException {
+        CompletableFuture<String> completion = bp.getCompletion();
+        if (completion != null) {
+            try {
+                completion.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                // process failed or is still running, checked by the caller
+            }
+        } else if (delaySleepInterval > 0) {
+            long steps = timeout / delaySleepInterval;
+            for (long step = 0; step < steps && !bp.isDone(); step++) {
+                Thread.sleep(delaySleepInterval);
+            }
         }
-        LOG.debug("Sleeping ended after {} steps and the background process is {}", step, (bp.isDone() ? " done" : " not done"));
     }
 
     /**
@@ -384,6 +443,18 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         this.delaySleepInterval = delaySleepInterval;
     }
 
+    /**
+     * Sets how long in millis (msec) a request for a still running background process waits for its
+     * completion before the wait result is returned, so the wait page can long-poll instead of refreshing
+     * on a fixed schedule. The session is not locked during the wait.
+     *
+     * @param longPollTimeout in millis (0 for not used)
+     * @since 7.1.0
+     */
+    public void setLongPollTimeout(int longPollTimeout) {
+        this.longPollTimeout = longPollTimeout;
+    }
+
     /**
      * Whether to start the background process after the second pass (first being validation)
      * or not
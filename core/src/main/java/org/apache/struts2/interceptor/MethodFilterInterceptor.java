@@ -24,7 +24,9 @@ import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.util.TextParseUtil;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <!-- START SNIPPET: javadoc -->
@@ -77,6 +79,14 @@ public abstract class MethodFilterInterceptor extends AbstractInterceptor {
     protected Set<String> excludeMethods = Collections.emptySet();
     protected Set<String> includeMethods = Collections.emptySet();
 
+    private static final int METHOD_DECISIONS_LIMIT = 1_000;
+
+    /**
+     * Decisions of {@link MethodFilterInterceptorUtil#applyMethod(Set, Set, String)} per method name,
+     * dropped when the exclude or include methods are changed.
+     */
+    private volatile MethodDecisions methodDecisions;
+
     public void setExcludeMethods(String excludeMethods) {
         this.excludeMethods = TextParseUtil.commaDelimitedStringToSet(excludeMethods);
     }
@@ -104,13 +114,35 @@ public abstract class MethodFilterInterceptor extends AbstractInterceptor {
     protected boolean applyInterceptor(ActionInvocation invocation) {
         String method = invocation.getProxy().getMethod();
         // ValidationInterceptor
-        boolean applyMethod = MethodFilterInterceptorUtil.applyMethod(excludeMethods, includeMethods, method);
+        boolean applyMethod = isMethodApplied(method);
         if (!applyMethod) {
             LOG.debug("Skipping Interceptor... Method [{}] found in exclude list.", method);
         }
         return applyMethod;
     }
 
+    private boolean isMethodApplied(String method) {
+        if (method == null) {
+            return MethodFilterInterceptorUtil.applyMethod(excludeMethods, includeMethods, method);
+        }
+        MethodDecisions decisions = methodDecisions;
+        if (decisions == null || decisions.excludeMethods != excludeMethods || decisions.includeMethods != includeMethods) {
+            decisions = new MethodDecisions(excludeMethods, includeMethods, new ConcurrentHashMap<>());
+            methodDecisions = decisions;
+        }
+        Boolean applyMethod = decisions.verdicts.get(method);
+        if (applyMethod == null) {
+            applyMethod = MethodFilterInterceptorUtil.applyMethod(decisions.excludeMethods, decisions.includeMethods, method);
+            if (decisions.verdicts.size() < METHOD_DECISIONS_LIMIT) {
+                decisions.verdicts.put(method, applyMethod);
+            }
+        }
+        return applyMethod;
+    }
+
+    private record MethodDecisions(Set<String> excludeMethods, Set<String> includeMethods, Map<String, Boolean> verdicts) {
+    }
+
     /**
      * Subclasses must override to implement the interceptor logic.
      *
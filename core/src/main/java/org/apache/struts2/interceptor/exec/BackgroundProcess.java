@@ -21,6 +21,8 @@ package org.apache.struts2.interceptor.exec;
 import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.interceptor.ExecuteAndWaitInterceptor;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface used to create a background process which will be executed by
  * {@link ExecuteAndWaitInterceptor}
@@ -38,4 +40,13 @@ public interface BackgroundProcess extends Runnable {
     Exception getException();
 
     boolean isDone();
+
+    /**
+     * @return a future completed once the process is done or null if not supported, in such case
+     * {@link #isDone()} is polled
+     * @since 7.1.0
+     */
+    default CompletableFuture<String> getCompletion() {
+        return null;
+    }
 }
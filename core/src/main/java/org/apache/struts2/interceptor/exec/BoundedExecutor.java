@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes at most "maxThreads" tasks concurrently, at most "queueCapacity" tasks wait for execution and
+ * further tasks are rejected. Tasks are executed by a thread pool or, if requested and supported by the JVM,
+ * in a virtual thread per task. Used by {@link StrutsExecutorProvider} and by the executors of plugins.
+ *
+ * @since 7.1.0
+ */
+public class BoundedExecutor implements Executor {
+
+    private static final Logger LOG = LogManager.getLogger(BoundedExecutor.class);
+
+    private final int maxThreads;
+    private final int queueCapacity;
+    private final ExecutorService executor;
+    private final Semaphore admission;
+    private final Semaphore running;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * @param name           prefix of the names of the pool threads
+     * @param maxThreads     max number of tasks executed concurrently
+     * @param queueCapacity  max number of tasks waiting for execution
+     * @param virtualThreads execute each task in a virtual thread when running on Java 21+
+     * @param daemon         whether the pool threads are daemon threads
+     */
+    public BoundedExecutor(String name, int maxThreads, int queueCapacity, boolean virtualThreads, boolean daemon) {
+        this.maxThreads = maxThreads;
+        this.queueCapacity = queueCapacity;
+        ExecutorService virtual = virtualThreads ? createVirtualThreadExecutor() : null;
+        if (virtual != null) {
+            LOG.debug("Executing {} tasks with virtual threads, max concurrent: {}, queue capacity: {}", name, maxThreads, queueCapacity);
+            this.executor = virtual;
+            this.admission = new Semaphore(maxThreads + queueCapacity);
+            this.running = new Semaphore(maxThreads);
+        } else {
+            LOG.debug("Executing {} tasks with a thread pool, max threads: {}, queue capacity: {}", name, maxThreads, queueCapacity);
+            BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS, queue,
+                new NamedThreadFactory(name, daemon));
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+            this.admission = null;
+            this.running = null;
+        }
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Virtual threads are not supported by this JVM, falling back to a thread pool");
+            return null;
+        }
+    }
+
+    /**
+     * @param task the task to execute
+     * @throws RejectedExecutionException if too many tasks are running or waiting, or the executor has been shut down
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (admission != null && !admission.tryAcquire()) {
+            throw new RejectedExecutionException("Too many tasks, max threads: " + maxThreads + ", queue capacity: " + queueCapacity);
+        }
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            if (admission != null) {
+                admission.release();
+            }
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        if (running != null) {
+            running.acquireUninterruptibly();
+        }
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            if (running != null) {
+                running.release();
+                admission.release();
+            }
+        }
+    }
+
+    /**
+     * @return number of tasks being executed
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * @return number of tasks waiting for execution
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * Rejects new tasks, already accepted tasks are still executed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String name;
+        private final boolean daemon;
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        NamedThreadFactory(String name, boolean daemon) {
+            this.name = name;
+            this.daemon = daemon;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(daemon);
+            return thread;
+        }
+    }
+}
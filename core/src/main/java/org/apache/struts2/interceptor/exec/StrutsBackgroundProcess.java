@@ -25,6 +25,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Background thread to be executed by the ExecuteAndWaitInterceptor.
@@ -38,67 +39,121 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
 
     private final String threadName;
     private final int threadPriority;
+    private final boolean dedicatedThread;
 
     private transient Thread processThread;
+    private transient CompletableFuture<String> completion;
     //WW-4900 transient since 2.5.15
     protected transient ActionInvocation invocation;
     protected transient Exception exception;
 
     protected String result;
-    protected boolean done;
+    protected volatile boolean done;
 
     /**
-     * Constructs a background process
+     * Constructs a background process executed in its own thread
      *
      * @param invocation     The action invocation
      * @param threadName     The name of background thread
      * @param threadPriority The priority of background thread
      */
     public StrutsBackgroundProcess(ActionInvocation invocation, String threadName, int threadPriority) {
+        this(invocation, threadName, threadPriority, true);
+    }
+
+    /**
+     * Constructs a background process
+     *
+     * @param invocation      The action invocation
+     * @param threadName      The name of background thread
+     * @param threadPriority  The priority of background thread
+     * @param dedicatedThread if false the process is executed by the thread calling {@link #run()}, so it is
+     *                        bound by the {@link ExecutorProvider} running it
+     * @since 7.1.0
+     */
+    public StrutsBackgroundProcess(ActionInvocation invocation, String threadName, int threadPriority, boolean dedicatedThread) {
         this.invocation = invocation;
         this.threadName = threadName;
         this.threadPriority = threadPriority;
+        this.dedicatedThread = dedicatedThread;
     }
 
     @Override
     public BackgroundProcess prepare() {
+        completion = new CompletableFuture<>();
+        if (!dedicatedThread) {
+            return this;
+        }
         try {
-            processThread = new Thread(() -> {
-                try {
-                    beforeInvocation();
-                    result = invocation.invokeActionOnly();
-                } catch (Exception e) {
-                    LOG.warn("Exception during invokeActionOnly() execution", e);
-                    exception = e;
-                } finally {
-                    try {
-                        afterInvocation();
-                    } catch (Exception ex) {
-                        if (exception == null) {
-                            exception = ex;
-                        }
-                        LOG.warn("Exception during afterInvocation() execution", ex);
-                    }
-                    done = true;
-                }
-            });
+            processThread = new Thread(this::process);
             processThread.setName(threadName);
             processThread.setPriority(threadPriority);
         } catch (Exception e) {
-            done = true;
             exception = e;
+            complete();
         }
         return this;
     }
 
     @Override
     public void run() {
-        if (processThread == null) {
+        if (completion == null) {
             done = true;
             exception = new IllegalStateException("Background thread " + threadName + " has not been prepared!");
             return;
         }
-        processThread.start();
+        if (dedicatedThread) {
+            if (processThread != null) {
+                processThread.start();
+            }
+            return;
+        }
+
+        Thread current = Thread.currentThread();
+        String name = current.getName();
+        int priority = current.getPriority();
+        current.setName(threadName);
+        current.setPriority(threadPriority);
+        try {
+            process();
+        } finally {
+            current.setName(name);
+            current.setPriority(priority);
+        }
+    }
+
+    private void process() {
+        try {
+            beforeInvocation();
+            result = invocation.invokeActionOnly();
+        } catch (Exception e) {
+            LOG.warn("Exception during invokeActionOnly() execution", e);
+            exception = e;
+        } finally {
+            try {
+                afterInvocation();
+            } catch (Exception ex) {
+                if (exception == null) {
+                    exception = ex;
+                }
+                LOG.warn("Exception during afterInvocation() execution", ex);
+            }
+            complete();
+        }
+    }
+
+    private void complete() {
+        done = true;
+        completion.complete(result);
+    }
+
+    /**
+     * @return a future completed with the result once the process is done, null if not prepared
+     * @since 7.1.0
+     */
+    @Override
+    public CompletableFuture<String> getCompletion() {
+        return completion;
     }
 
     /**
@@ -174,6 +229,6 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
 
     @Override
     public String toString() {
-        return "StrutsBackgroundProcess { name = " + processThread.getName() + " }";
+        return "StrutsBackgroundProcess { name = " + threadName + " }";
     }
 }
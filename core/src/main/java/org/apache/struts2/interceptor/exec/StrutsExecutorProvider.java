@@ -18,36 +18,83 @@
  */
 package org.apache.struts2.interceptor.exec;
 
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.inject.Inject;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
+/**
+ * Default {@link ExecutorProvider} running background processes in a {@link BoundedExecutor}: a bounded thread pool
+ * or, if enabled and supported by the JVM, a virtual thread per process. At most "maxThreads" processes run
+ * concurrently and at most "queueCapacity" wait for execution, further processes are rejected.
+ */
 public class StrutsExecutorProvider implements ExecutorProvider {
 
     private static final Logger LOG = LogManager.getLogger(StrutsExecutorProvider.class);
 
-    private final ExecutorService executor;
+    private int maxThreads = 10;
+    private int queueCapacity = 100;
+    private boolean virtualThreads;
+
+    private volatile BoundedExecutor executor;
+    private volatile boolean shutdown;
+
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_MAX_THREADS, required = false)
+    public void setMaxThreads(String maxThreads) {
+        this.maxThreads = Integer.parseInt(maxThreads);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_QUEUE_CAPACITY, required = false)
+    public void setQueueCapacity(String queueCapacity) {
+        this.queueCapacity = Integer.parseInt(queueCapacity);
+    }
 
-    public StrutsExecutorProvider() {
-        this.executor = Executors.newFixedThreadPool(2);
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_VIRTUAL_THREADS, required = false)
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = BooleanUtils.toBoolean(virtualThreads);
     }
 
     @Override
     public void execute(Runnable task) {
         LOG.debug("Executing task: {}", task);
-        executor.execute(task);
+        getExecutor().execute(task);
+    }
+
+    private BoundedExecutor getExecutor() {
+        BoundedExecutor result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    if (shutdown) {
+                        throw new RejectedExecutionException("Executor has been shut down");
+                    }
+                    result = createExecutor();
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    protected BoundedExecutor createExecutor() {
+        return new BoundedExecutor(StrutsExecutorProvider.class.getSimpleName(), maxThreads, queueCapacity, virtualThreads, false);
     }
 
     @Override
     public boolean isShutdown() {
-        return executor.isShutdown();
+        return shutdown;
     }
 
     @Override
-    public void shutdown() {
+    public synchronized void shutdown() {
         LOG.debug("Shutting down executor");
-        executor.shutdown();
+        shutdown = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 }
@@ -33,6 +33,8 @@ import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.dispatcher.Parameter;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.interceptor.MethodFilterInterceptor;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlDefaultCache;
 import org.apache.struts2.ognl.ThreadAllowlist;
 import org.apache.struts2.security.AcceptedPatternsChecker;
 import org.apache.struts2.security.DefaultAcceptedPatternsChecker;
@@ -82,8 +84,22 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
 
     protected static final int PARAM_NAME_MAX_LENGTH = 100;
 
+    /**
+     * Maximum number of cached results of {@link #hasValidAnnotatedMember(String, Object, long)}, the cache is cleared
+     * when exceeded as the keys are derived from parameter names provided by the client
+     */
+    protected static final int ANNOTATED_MEMBER_CACHE_LIMIT = 10_000;
+
     private static final Pattern DMI_IGNORED_PATTERN = Pattern.compile("^(action|method):.*", Pattern.CASE_INSENSITIVE);
 
+    /**
+     * Methods involved in the annotated member check, if any of them is overridden the results cannot be cached
+     */
+    private static final Set<String> ANNOTATED_MEMBER_METHODS = Set.of(
+            "hasValidAnnotatedMember", "hasValidAnnotatedPropertyDescriptor", "hasValidAnnotatedField",
+            "allowlistReturnTypeIfParameterized", "allowlistFieldIfParameterized", "allowlistParameterizedTypeArg",
+            "allowlistParamType", "allowlistClass", "getPermittedInjectionDepth", "getParameterAnnotation", "getBeanInfo");
+
     private int paramNameMaxLength = PARAM_NAME_MAX_LENGTH;
     private boolean devMode = false;
     private boolean dmiEnabled = false;
@@ -99,6 +115,11 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     private Set<Pattern> excludedValuePatterns = null;
     private Set<Pattern> acceptedValuePatterns = null;
 
+    private final OgnlCache<AnnotatedMemberKey, AnnotatedMemberVerdict> annotatedMemberVerdicts =
+            new OgnlDefaultCache<>(ANNOTATED_MEMBER_CACHE_LIMIT, 16, 0.75f);
+    private final ThreadLocal<Set<Class<?>>> allowlistRecorder = new ThreadLocal<>();
+    private final boolean cacheAnnotatedMembers = !overridesAnnotatedMemberCheck(getClass());
+
     @Inject
     public void setValueStackFactory(ValueStackFactory valueStackFactory) {
         this.valueStackFactory = valueStackFactory;
@@ -348,12 +369,12 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             return true;
         }
 
-        long paramDepth = name.codePoints().mapToObj(c -> (char) c).filter(NESTING_CHARS::contains).count();
+        long paramDepth = countNestingChars(name);
 
         if (action instanceof ModelDriven<?> && !ActionContext.getContext().getValueStack().peek().equals(action)) {
             LOG.debug("Model driven Action detected, exempting from @StrutsParameter annotation requirement and OGNL allowlisting model type");
             // (Exempted by annotation on org.apache.struts2.ModelDriven#getModel)
-            return hasValidAnnotatedMember("model", action, paramDepth + 1);
+            return hasValidAnnotatedMemberCached("model", action, paramDepth + 1);
         }
 
         if (requireAnnotationsTransitionMode && paramDepth == 0) {
@@ -365,7 +386,56 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
         String rootProperty = nestingIndex == -1 ? name : name.substring(0, nestingIndex);
         String normalisedRootProperty = Character.toLowerCase(rootProperty.charAt(0)) + rootProperty.substring(1);
 
-        return hasValidAnnotatedMember(normalisedRootProperty, action, paramDepth);
+        return hasValidAnnotatedMemberCached(normalisedRootProperty, action, paramDepth);
+    }
+
+    private static long countNestingChars(String name) {
+        long count = 0;
+        for (int i = 0; i < name.length(); i++) {
+            if (NESTING_CHARS.contains(name.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Remembers the result of {@link #hasValidAnnotatedMember(String, Object, long)} per Action class, property and
+     * depth together with the classes it allowlisted, so subsequent requests only replay the allowlisting instead of
+     * introspecting the Action again. In devMode, or when any of the methods involved in the check is overridden,
+     * the check is always performed.
+     */
+    private boolean hasValidAnnotatedMemberCached(String rootProperty, Object action, long paramDepth) {
+        if (devMode || !cacheAnnotatedMembers) {
+            return hasValidAnnotatedMember(rootProperty, action, paramDepth);
+        }
+        AnnotatedMemberKey key = new AnnotatedMemberKey(action.getClass(), rootProperty, paramDepth);
+        AnnotatedMemberVerdict verdict = annotatedMemberVerdicts.get(key);
+        if (verdict != null) {
+            verdict.allowlistedClasses().forEach(threadAllowlist::allowClass);
+            return verdict.valid();
+        }
+
+        Set<Class<?>> allowlistedClasses = new HashSet<>();
+        allowlistRecorder.set(allowlistedClasses);
+        try {
+            boolean valid = hasValidAnnotatedMember(rootProperty, action, paramDepth);
+            annotatedMemberVerdicts.put(key, new AnnotatedMemberVerdict(valid, Set.copyOf(allowlistedClasses)));
+            return valid;
+        } finally {
+            allowlistRecorder.remove();
+        }
+    }
+
+    private static boolean overridesAnnotatedMemberCheck(Class<?> interceptorClass) {
+        for (Class<?> clazz = interceptorClass; clazz != ParametersInterceptor.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (ANNOTATED_MEMBER_METHODS.contains(method.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -445,9 +515,17 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     }
 
     protected void allowlistClass(Class<?> clazz) {
+        allowClass(clazz);
+        ClassUtils.getAllSuperclasses(clazz).forEach(this::allowClass);
+        ClassUtils.getAllInterfaces(clazz).forEach(this::allowClass);
+    }
+
+    private void allowClass(Class<?> clazz) {
         threadAllowlist.allowClass(clazz);
-        ClassUtils.getAllSuperclasses(clazz).forEach(threadAllowlist::allowClass);
-        ClassUtils.getAllInterfaces(clazz).forEach(threadAllowlist::allowClass);
+        Set<Class<?>> recorder = allowlistRecorder.get();
+        if (recorder != null) {
+            recorder.add(clazz);
+        }
     }
 
     protected boolean hasValidAnnotatedField(Object action, String fieldName, long paramDepth) {
@@ -789,4 +867,10 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             excludedValuePatterns = unmodifiableSet(excludedValuePatterns);
         }
     }
+
+    private record AnnotatedMemberKey(Class<?> actionClass, String rootProperty, long paramDepth) {
+    }
+
+    private record AnnotatedMemberVerdict(boolean valid, Set<Class<?>> allowlistedClasses) {
+    }
 }
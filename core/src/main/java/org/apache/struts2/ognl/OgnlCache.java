@@ -15,6 +15,8 @@
  */
 package org.apache.struts2.ognl;
 
+import java.util.function.Function;
+
 /**
  * A basic cache interface for use with OGNL processing (such as Expression, BeanInfo).
  * All OGNL caches will have an eviction limit, but setting an extremely high value can
@@ -31,6 +33,25 @@ public interface OgnlCache<Key, Value> {
 
     void putIfAbsent(Key key, Value value);
 
+    /**
+     * Returns the value cached for the given key, computing and caching it if absent. Implementations should make
+     * threads requesting the same key wait for a single computation instead of blocking the whole cache.
+     * The default implementation may compute the value more than once if called concurrently.
+     *
+     * @param key             key of the value
+     * @param mappingFunction computes the value if absent, must not return null
+     * @return the current (existing or computed) value associated with the key
+     * @since 7.1.0
+     */
+    default Value computeIfAbsent(Key key, Function<? super Key, ? extends Value> mappingFunction) {
+        Value value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            putIfAbsent(key, value);
+        }
+        return value;
+    }
+
     int size();
 
     void clear();
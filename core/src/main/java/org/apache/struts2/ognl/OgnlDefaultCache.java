@@ -17,6 +17,7 @@ package org.apache.struts2.ognl;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * <p>Basic OGNL cache implementation.</p>
@@ -57,6 +58,13 @@ public class OgnlDefaultCache<K, V> implements OgnlCache<K, V> {
         this.clearIfEvictionLimitExceeded();
     }
 
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = ognlCache.computeIfAbsent(key, mappingFunction);
+        this.clearIfEvictionLimitExceeded();
+        return value;
+    }
+
     @Override
     public int size() {
         return ognlCache.size();
@@ -18,7 +18,9 @@ package org.apache.struts2.ognl;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * <p>A basic OGNL LRU cache implementation.</p>
@@ -37,6 +39,7 @@ public class OgnlLRUCache<K, V> implements OgnlCache<K, V> {
 
     private final Map<K, V> ognlLRUCache;
     private final AtomicInteger cacheEvictionLimit;
+    private final Map<K, Object> loadingLocks = new ConcurrentHashMap<>();
 
     public OgnlLRUCache(int evictionLimit, int initialCapacity, float loadFactor) {
         cacheEvictionLimit = new AtomicInteger(evictionLimit);
@@ -64,6 +67,30 @@ public class OgnlLRUCache<K, V> implements OgnlCache<K, V> {
         ognlLRUCache.putIfAbsent(key, value);
     }
 
+    /**
+     * Computes the missing value outside of the cache's monitor, holding a lock specific to the key only.
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = ognlLRUCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        Object loadingLock = loadingLocks.computeIfAbsent(key, k -> new Object());
+        try {
+            synchronized (loadingLock) {
+                value = ognlLRUCache.get(key);
+                if (value == null) {
+                    value = mappingFunction.apply(key);
+                    ognlLRUCache.put(key, value);
+                }
+                return value;
+            }
+        } finally {
+            loadingLocks.remove(key, loadingLock);
+        }
+    }
+
     @Override
     public int size() {
         return ognlLRUCache.size();
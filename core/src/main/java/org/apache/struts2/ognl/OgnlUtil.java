@@ -22,9 +22,13 @@ import org.apache.struts2.conversion.impl.XWorkConverter;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.ognl.accessor.RootAccessor;
+import org.apache.struts2.ognl.accessor.XWorkMethodAccessor;
 import org.apache.struts2.util.CompoundRoot;
+import org.apache.struts2.util.reflection.ReflectionContextState;
 import org.apache.struts2.util.reflection.ReflectionException;
 import ognl.ClassResolver;
+import ognl.MemberAccess;
+import ognl.MethodFailedException;
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
@@ -41,10 +45,15 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 import static org.apache.struts2.ognl.OgnlGuard.EXPR_BLOCKED;
@@ -64,6 +73,7 @@ public class OgnlUtil {
     private final OgnlCache<Class<?>, BeanInfo> beanInfoCache;
     private TypeConverter defaultConverter;
     private final OgnlGuard ognlGuard;
+    private final Map<Class<?>, Map<String, DirectMethod>> directMethods = new ConcurrentHashMap<>();
 
     private boolean devMode;
     private boolean enableExpressionCache = true;
@@ -401,6 +411,74 @@ public class OgnlUtil {
         return ognlGet(name, context, root, null, context, this::checkSimpleMethod);
     }
 
+    /**
+     * Calls the public no-argument method with the given name on the root object, an equivalent of
+     * {@code callMethod(methodName + "()", context, root)} without parsing and resolving an OGNL expression.
+     * The method is resolved once per class and invoked through a cached {@link MethodHandle}, the {@link MemberAccess}
+     * of the given context is still consulted on each call. If the method cannot be called directly,
+     * the call falls back to {@link #callMethod(String, Map, Object)}.
+     *
+     * @param methodName name of the method to call
+     * @param context    the OGNL context
+     * @param root       the object to call the method on
+     * @return result of the method call, or null for void methods
+     * @throws OgnlException wrapping any failure of the called method into {@link MethodFailedException}
+     * @since 7.1.0
+     */
+    public Object callMethodDirectly(final String methodName, final Map<String, Object> context, final Object root) throws OgnlException {
+        DirectMethod directMethod = getDirectMethod(root.getClass(), methodName);
+        if (directMethod == null || !(context instanceof OgnlContext)) {
+            return callMethod(methodName + "()", context, root);
+        }
+        if (ReflectionContextState.isDenyMethodExecution(context)) {
+            return null;
+        }
+        MemberAccess memberAccess = ((OgnlContext) context).getMemberAccess();
+        if (memberAccess == null || !memberAccess.isAccessible(context, root, directMethod.method, null)) {
+            // let OGNL report the access violation in the usual way
+            return callMethod(methodName + "()", context, root);
+        }
+        try {
+            return directMethod.handle.invokeExact(root);
+        } catch (Throwable t) {
+            throw new MethodFailedException(root, methodName, t);
+        }
+    }
+
+    private DirectMethod getDirectMethod(Class<?> clazz, String methodName) {
+        // unresolvable methods are not cached to keep the cache bounded by the methods which really exist
+        return directMethods.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(methodName, name -> resolveDirectMethod(clazz, name));
+    }
+
+    private DirectMethod resolveDirectMethod(Class<?> clazz, String methodName) {
+        try {
+            if (!(OgnlRuntime.getMethodAccessor(clazz) instanceof XWorkMethodAccessor)) {
+                return null;
+            }
+            Method method = clazz.getMethod(methodName);
+            if (Modifier.isStatic(method.getModifiers())) {
+                return null;
+            }
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return new DirectMethod(method, handle);
+        } catch (NoSuchMethodException | IllegalAccessException | OgnlException | SecurityException e) {
+            LOG.trace("Method [{}] of [{}] cannot be called directly, OGNL will be used", methodName, clazz, e);
+            return null;
+        }
+    }
+
+    private static final class DirectMethod {
+        private final Method method;
+        private final MethodHandle handle;
+
+        private DirectMethod(Method method, MethodHandle handle) {
+            this.method = method;
+            this.handle = handle;
+        }
+    }
+
     public Object getValue(final String name, final Map<String, Object> context, final Object root, final Class<?> resultType) throws OgnlException {
         return ognlGet(name, context, root, resultType, context, this::checkEnableEvalExpression);
     }
@@ -676,13 +754,27 @@ public class OgnlUtil {
      * @throws IntrospectionException is thrown if an exception occurs during introspection.
      */
     public BeanInfo getBeanInfo(Class<?> clazz) throws IntrospectionException {
-        synchronized (beanInfoCache) {
-            BeanInfo beanInfo = beanInfoCache.get(clazz);
-            if (beanInfo == null) {
-                beanInfo = Introspector.getBeanInfo(clazz, Object.class);
-                beanInfoCache.putIfAbsent(clazz, beanInfo);
-            }
-            return beanInfo;
+        try {
+            return beanInfoCache.computeIfAbsent(clazz, key -> {
+                try {
+                    return Introspector.getBeanInfo(key, Object.class);
+                } catch (IntrospectionException e) {
+                    throw new BeanInfoLoadingException(e);
+                }
+            });
+        } catch (BeanInfoLoadingException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class BeanInfoLoadingException extends RuntimeException {
+        private BeanInfoLoadingException(IntrospectionException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IntrospectionException getCause() {
+            return (IntrospectionException) super.getCause();
         }
     }
 
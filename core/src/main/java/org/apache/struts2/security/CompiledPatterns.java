@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.security;
+
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlDefaultCache;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable set of patterns used by {@link DefaultAcceptedPatternsChecker} and {@link DefaultExcludedPatternsChecker}.
+ * <p>
+ * Verdicts of recently checked values are kept in a bounded cache, so each value is matched against
+ * the patterns only once.
+ *
+ * @param <V> type of the verdict produced for a checked value
+ * @since 7.1.0
+ */
+final class CompiledPatterns<V> {
+
+    static final int VERDICT_CACHE_LIMIT = 10_000;
+
+    private final Set<Pattern> patterns;
+    private final Function<Pattern, V> verdictFactory;
+    private final OgnlCache<String, V> verdicts = new OgnlDefaultCache<>(VERDICT_CACHE_LIMIT, 16, 0.75f);
+
+    /**
+     * @param patterns       set of patterns to match against
+     * @param verdictFactory creates a verdict out of the matching pattern, or null if none of the patterns matches
+     */
+    CompiledPatterns(Set<Pattern> patterns, Function<Pattern, V> verdictFactory) {
+        this.patterns = patterns;
+        this.verdictFactory = verdictFactory;
+    }
+
+    boolean isCompiledFrom(Set<Pattern> patterns) {
+        return this.patterns == patterns;
+    }
+
+    V check(String value) {
+        V verdict = verdicts.get(value);
+        if (verdict == null) {
+            verdict = verdictFactory.apply(findMatching(value));
+            verdicts.put(value, verdict);
+        }
+        return verdict;
+    }
+
+    private Pattern findMatching(String value) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(value).matches()) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+}
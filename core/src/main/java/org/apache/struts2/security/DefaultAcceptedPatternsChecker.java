@@ -52,6 +52,7 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
     };
 
     protected Set<Pattern> acceptedPatterns;
+    private volatile CompiledPatterns<IsAccepted> compiledPatterns;
 
     public DefaultAcceptedPatternsChecker() {
         setAcceptedPatterns(ACCEPTED_PATTERNS);
@@ -121,13 +122,22 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
 
     @Override
     public IsAccepted isAccepted(String value) {
-        for (Pattern acceptedPattern : acceptedPatterns) {
-            if (acceptedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches accepted pattern [{}]", value, acceptedPattern);
-                return IsAccepted.yes(acceptedPattern.toString());
-            }
+        IsAccepted result = getCompiledPatterns().check(value);
+        if (result.isAccepted()) {
+            LOG.trace("[{}] matches accepted pattern [{}]", value, result.getAcceptedPattern());
+        }
+        return result;
+    }
+
+    private CompiledPatterns<IsAccepted> getCompiledPatterns() {
+        CompiledPatterns<IsAccepted> compiled = compiledPatterns;
+        Set<Pattern> patterns = acceptedPatterns;
+        if (compiled == null || !compiled.isCompiledFrom(patterns)) {
+            compiled = new CompiledPatterns<>(patterns,
+                    pattern -> pattern != null ? IsAccepted.yes(pattern.toString()) : IsAccepted.no(patterns.toString()));
+            compiledPatterns = compiled;
         }
-        return IsAccepted.no(acceptedPatterns.toString());
+        return compiled;
     }
 
     @Override
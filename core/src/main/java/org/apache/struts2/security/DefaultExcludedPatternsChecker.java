@@ -43,6 +43,7 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
     };
 
     private Set<Pattern> excludedPatterns;
+    private volatile CompiledPatterns<IsExcluded> compiledPatterns;
 
     public DefaultExcludedPatternsChecker() {
         setExcludedPatterns(EXCLUDED_PATTERNS);
@@ -105,13 +106,22 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
 
     @Override
     public IsExcluded isExcluded(String value) {
-        for (Pattern excludedPattern : excludedPatterns) {
-            if (excludedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches excluded pattern [{}]", value, excludedPattern);
-                return IsExcluded.yes(excludedPattern);
-            }
+        IsExcluded result = getCompiledPatterns().check(value);
+        if (result.isExcluded()) {
+            LOG.trace("[{}] matches excluded pattern [{}]", value, result.getExcludedPattern());
+        }
+        return result;
+    }
+
+    private CompiledPatterns<IsExcluded> getCompiledPatterns() {
+        CompiledPatterns<IsExcluded> compiled = compiledPatterns;
+        Set<Pattern> patterns = excludedPatterns;
+        if (compiled == null || !compiled.isCompiledFrom(patterns)) {
+            compiled = new CompiledPatterns<>(patterns,
+                    pattern -> pattern != null ? IsExcluded.yes(pattern) : IsExcluded.no(patterns));
+            compiledPatterns = compiled;
         }
-        return IsExcluded.no(excludedPatterns);
+        return compiled;
     }
 
     @Override
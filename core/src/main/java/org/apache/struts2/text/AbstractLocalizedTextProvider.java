@@ -43,6 +43,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
 
@@ -57,15 +58,27 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     private static final String TOMCAT_WEBAPP_CLASSLOADER_BASE = "org.apache.catalina.loader.WebappClassLoaderBase";
     private static final String RELOADED = "org.apache.struts2.util.LocalizedTextProvider.reloaded";
 
+    /**
+     * Max number of cached text locations, keys can be built out of request parameters (e.g. conversion errors)
+     */
+    private static final int MAX_TEXT_LOCATIONS = 10000;
+    /**
+     * Max number of cached compiled messages, patterns can contain values of evaluated expressions
+     */
+    private static final int MAX_MESSAGE_FORMATS = 10000;
+    private static final TextLocation MISSING_TEXT = new TextLocation(null, null);
+
     protected final ConcurrentMap<String, ResourceBundle> bundlesMap = new ConcurrentHashMap<>();
     protected boolean devMode = false;
     protected boolean reloadBundles = false;
     protected boolean searchDefaultBundlesFirst = false;  // Search default resource bundles first.  Note: This flag may not be meaningful to all implementations.
 
-    private final ConcurrentMap<MessageFormatKey, MessageFormat> messageFormats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MessageFormatKey, CompiledMessageFormat> messageFormats = new ConcurrentHashMap<>();
+    private final boolean customMessageFormat = overridesMessageFormat(getClass());
     private final ConcurrentMap<Integer, List<String>> classLoaderMap = new ConcurrentHashMap<>();
     private final Set<String> missingBundles = ConcurrentHashMap.newKeySet();
     private final ConcurrentMap<Integer, ClassLoader> delegatedClassLoaderMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TextLocationKey, TextLocation> textLocations = new ConcurrentHashMap<>();
 
     @Override
     public void addDefaultResourceBundle(String bundleName) {
@@ -136,8 +149,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     public String findDefaultText(String textKey, Locale locale, Object[] params) {
         String defaultText = findDefaultText(textKey, locale);
         if (defaultText != null) {
-            MessageFormat mf = buildMessageFormat(defaultText, locale);
-            return formatWithNullDetection(mf, params);
+            return formatMessage(defaultText, locale, params);
         }
         return null;
     }
@@ -149,9 +161,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             reloadBundles(valueStack.getContext());
 
             String message = TextParseUtil.translateVariables(bundle.getString(textKey), valueStack);
-            MessageFormat mf = buildMessageFormat(message, locale);
-
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException ex) {
             if (devMode) {
                 LOG.warn("Missing key [{}] in bundle [{}]!", textKey, bundle);
@@ -174,6 +184,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         synchronized (bundlesMap) {
             delegatedClassLoaderMap.put(getCurrentThreadContextClassLoader().hashCode(), classLoader);
         }
+        textLocations.clear();
     }
 
     /**
@@ -187,6 +198,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     protected void clearBundle(final String bundleName, Locale locale) {
         final String key = createMissesKey(String.valueOf(getCurrentThreadContextClassLoader().hashCode()), bundleName, locale);
         final ResourceBundle removedBundle = bundlesMap.remove(key);
+        textLocations.clear();
         LOG.debug("Clearing resource bundle [{}], locale [{}], result: [{}].", bundleName, locale, removedBundle != null);
     }
 
@@ -204,6 +216,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
      */
     protected void clearMissingBundlesCache() {
         missingBundles.clear();
+        textLocations.clear();
         LOG.debug("Cleared the missing bundles cache.");
     }
 
@@ -222,6 +235,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
                 }
                 if (!reloaded) {
                     bundlesMap.clear();
+                    textLocations.clear();
                     clearResourceBundleClassloaderCaches();
 
                     // now, for the true and utter hack, if we're running in tomcat, clear
@@ -333,21 +347,63 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
+    /**
+     * @return a new {@link MessageFormat} as instances aren't thread-safe and cannot be shared,
+     * use {@link #formatMessage(String, Locale, Object[])} to format messages
+     */
     protected MessageFormat buildMessageFormat(String pattern, Locale locale) {
+        return new MessageFormat(pattern, locale);
+    }
+
+    /**
+     * Formats the message using a compiled form of the pattern shared across threads, unless
+     * {@link #buildMessageFormat(String, Locale)} or {@link #formatWithNullDetection(MessageFormat, Object[])}
+     * is overridden, then these are used to format the message as before
+     *
+     * @param pattern the {@link MessageFormat} pattern
+     * @param locale  the locale
+     * @param args    the arguments, can be null
+     * @return the formatted message or null if it is "null"
+     * @since 7.1.0
+     */
+    protected String formatMessage(String pattern, Locale locale, Object[] args) {
+        if (customMessageFormat) {
+            return formatWithNullDetection(buildMessageFormat(pattern, locale), args);
+        }
         MessageFormatKey key = new MessageFormatKey(pattern, locale);
-        MessageFormat format = messageFormats.get(key);
+        CompiledMessageFormat format = messageFormats.get(key);
         if (format == null) {
-            format = new MessageFormat(pattern);
-            format.setLocale(locale);
-            format.applyPattern(pattern);
-            messageFormats.put(key, format);
+            format = CompiledMessageFormat.compile(pattern, locale);
+            if (messageFormats.size() < MAX_MESSAGE_FORMATS) {
+                messageFormats.put(key, format);
+            }
         }
-
-        return format;
+        return nullIfNullText(format.format(args));
     }
 
     protected String formatWithNullDetection(MessageFormat mf, Object[] args) {
-        String message = mf.format(args);
+        return nullIfNullText(mf.format(args));
+    }
+
+    private static boolean overridesMessageFormat(Class<?> providerClass) {
+        for (Class<?> clazz = providerClass; clazz != AbstractLocalizedTextProvider.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod("buildMessageFormat", String.class, Locale.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden at this level
+            }
+            try {
+                clazz.getDeclaredMethod("formatWithNullDetection", MessageFormat.class, Object[].class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden at this level
+            }
+        }
+        return false;
+    }
+
+    private static String nullIfNullText(String message) {
         if ("null".equals(message)) {
             return null;
         } else {
@@ -461,9 +517,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
 
             // defaultMessage may be null
             if (message != null) {
-                MessageFormat mf = buildMessageFormat(TextParseUtil.translateVariables(message, valueStack), locale);
-
-                String msg = formatWithNullDetection(mf, args);
+                String msg = formatMessage(TextParseUtil.translateVariables(message, valueStack), locale, args);
                 result = new GetDefaultMessageReturnArg(msg, found);
             }
         }
@@ -523,8 +577,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             if (valueStack != null) {
                 message = TextParseUtil.translateVariables(bundle.getString(key), valueStack);
             }
-            MessageFormat mf = buildMessageFormat(message, locale);
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException e) {
             LOG.debug("Missing key [{}] in bundle [{}]!", key, bundleName);
             return null;
@@ -599,6 +652,138 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         return null;
     }
 
+    /**
+     * Same as {@link #findMessage(Class, String, String, Locale, Object[], Set, ValueStack)} but remembers in which
+     * bundle the key has been found, or that it cannot be found at all, so next lookups for the same class, key and
+     * locale go straight to the bundle.
+     *
+     * @return the message
+     * @since 7.1.0
+     */
+    protected String findCachedMessage(Class<?> clazz, String key, String indexedKey, Locale locale, Object[] args,
+                                       ValueStack valueStack) {
+        TextLocation location = getTextLocation(new TextLocationKey(clazz, key, locale, false,
+                getCurrentThreadContextClassLoader().hashCode()), valueStack, () -> locateMessage(clazz, key, indexedKey, locale));
+        if (location == MISSING_TEXT) {
+            return null;
+        }
+        String msg = getMessage(location.bundleName(), locale, location.key(), valueStack, args);
+        return msg != null ? msg : findMessage(clazz, key, indexedKey, locale, args, null, valueStack);
+    }
+
+    /**
+     * Searches the "package" bundles of the packages of the class and its superclasses, the location of the key
+     * is cached like in {@link #findCachedMessage(Class, String, String, Locale, Object[], ValueStack)}.
+     *
+     * @return the message
+     * @since 7.1.0
+     */
+    protected String findPackageMessage(Class<?> startClazz, String key, String indexedKey, Locale locale, Object[] args,
+                                        ValueStack valueStack) {
+        TextLocation location = getTextLocation(new TextLocationKey(startClazz, key, locale, true,
+                getCurrentThreadContextClassLoader().hashCode()), valueStack, () -> locatePackageMessage(startClazz, key, indexedKey, locale));
+        if (location == MISSING_TEXT) {
+            return null;
+        }
+        String msg = getMessage(location.bundleName(), locale, location.key(), valueStack, args);
+        if (msg != null) {
+            return msg;
+        }
+
+        for (Class<?> clazz = startClazz; (clazz != null) && !clazz.equals(Object.class); clazz = clazz.getSuperclass()) {
+            String basePackageName = clazz.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                String packageName = basePackageName + ".package";
+                msg = getMessage(packageName, locale, key, valueStack, args);
+                if (msg != null) {
+                    return msg;
+                }
+                if (indexedKey != null) {
+                    msg = getMessage(packageName, locale, indexedKey, valueStack, args);
+                    if (msg != null) {
+                        return msg;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private TextLocation getTextLocation(TextLocationKey cacheKey, ValueStack valueStack, Supplier<TextLocation> locator) {
+        if (valueStack != null) {
+            reloadBundles(valueStack.getContext());
+        }
+        TextLocation location = textLocations.get(cacheKey);
+        if (location == null) {
+            location = locator.get();
+            if (location == null) {
+                location = MISSING_TEXT;
+            }
+            if (textLocations.size() < MAX_TEXT_LOCATIONS) {
+                textLocations.put(cacheKey, location);
+            }
+        }
+        return location;
+    }
+
+    /**
+     * Mirrors the search order of {@link #findMessage(Class, String, String, Locale, Object[], Set, ValueStack)}
+     */
+    private TextLocation locateMessage(Class<?> clazz, String key, String indexedKey, Locale locale) {
+        TextLocation location = locateInBundle(clazz.getName(), key, indexedKey, locale);
+        if (location != null) {
+            return location;
+        }
+
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            location = locateInBundle(anInterface.getName(), key, indexedKey, locale);
+            if (location != null) {
+                return location;
+            }
+        }
+
+        if (clazz.isInterface()) {
+            for (Class<?> anInterface : clazz.getInterfaces()) {
+                location = locateMessage(anInterface, key, indexedKey, locale);
+                if (location != null) {
+                    return location;
+                }
+            }
+        } else if (!clazz.equals(Object.class) && !clazz.isPrimitive()) {
+            return locateMessage(clazz.getSuperclass(), key, indexedKey, locale);
+        }
+        return null;
+    }
+
+    private TextLocation locatePackageMessage(Class<?> startClazz, String key, String indexedKey, Locale locale) {
+        for (Class<?> clazz = startClazz; (clazz != null) && !clazz.equals(Object.class); clazz = clazz.getSuperclass()) {
+            String basePackageName = clazz.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                TextLocation location = locateInBundle(basePackageName + ".package", key, indexedKey, locale);
+                if (location != null) {
+                    return location;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TextLocation locateInBundle(String bundleName, String key, String indexedKey, Locale locale) {
+        ResourceBundle bundle = findResourceBundle(bundleName, locale);
+        if (bundle == null) {
+            return null;
+        }
+        if (bundle.containsKey(key)) {
+            return new TextLocation(bundleName, key);
+        }
+        if (indexedKey != null && bundle.containsKey(indexedKey)) {
+            return new TextLocation(bundleName, indexedKey);
+        }
+        return null;
+    }
+
     protected String extractIndexedName(String textKey) {
         String indexedTextName = null;
         // calculate indexedTextName (collection[*]) if applicable
@@ -658,6 +843,12 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
+    private record TextLocationKey(Class<?> clazz, String key, Locale locale, boolean packages, int classLoader) {
+    }
+
+    private record TextLocation(String bundleName, String key) {
+    }
+
     static class GetDefaultMessageReturnArg {
         String message;
         boolean foundInBundle;
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.text;
+
+import java.text.ChoiceFormat;
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, thread-safe counterpart of {@link MessageFormat}: the pattern is parsed once into literal
+ * segments and arguments, messages without arguments are kept as a literal. Formatting produces the same
+ * output as {@link MessageFormat#format(Object)} for the same pattern and locale.
+ *
+ * @since 7.1.0
+ */
+final class CompiledMessageFormat {
+
+    private static final char ARGUMENT_START = '\uE000';
+    private static final char ARGUMENT_END = '\uE001';
+
+    private final String pattern;
+    private final Locale locale;
+    private final String literal;
+    private final String[] texts;
+    private final int[] argumentIndexes;
+    private final Format[] formats;
+
+    private CompiledMessageFormat(String pattern, Locale locale, String literal, String[] texts, int[] argumentIndexes, Format[] formats) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.literal = literal;
+        this.texts = texts;
+        this.argumentIndexes = argumentIndexes;
+        this.formats = formats;
+    }
+
+    /**
+     * @param pattern the {@link MessageFormat} pattern
+     * @param locale  the locale used to format arguments
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static CompiledMessageFormat compile(String pattern, Locale locale) {
+        MessageFormat messageFormat = new MessageFormat(pattern, locale);
+        Format[] formats = messageFormat.getFormats();
+        if (formats.length == 0) {
+            return new CompiledMessageFormat(pattern, locale, messageFormat.format(new Object[0]), null, null, null);
+        }
+        if (pattern.indexOf(ARGUMENT_START) != -1 || pattern.indexOf(ARGUMENT_END) != -1) {
+            // cannot split the pattern using the markers, the pattern will be formatted by a new MessageFormat each time
+            return new CompiledMessageFormat(pattern, locale, null, null, null, null);
+        }
+
+        // formats every argument as a marker holding its index to find out literal segments and argument order
+        Format[] markers = new Format[formats.length];
+        Arrays.fill(markers, ArgumentMarker.INSTANCE);
+        messageFormat.setFormats(markers);
+        Object[] indexes = new Object[messageFormat.getFormatsByArgumentIndex().length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        String marked = messageFormat.format(indexes);
+
+        List<String> texts = new ArrayList<>(formats.length + 1);
+        int[] argumentIndexes = new int[formats.length];
+        int start = 0;
+        for (int i = 0; i < formats.length; i++) {
+            int argumentStart = marked.indexOf(ARGUMENT_START, start);
+            int argumentEnd = marked.indexOf(ARGUMENT_END, argumentStart);
+            texts.add(marked.substring(start, argumentStart));
+            argumentIndexes[i] = Integer.parseInt(marked.substring(argumentStart + 1, argumentEnd));
+            start = argumentEnd + 1;
+        }
+        texts.add(marked.substring(start));
+
+        return new CompiledMessageFormat(pattern, locale, null, texts.toArray(new String[0]), argumentIndexes, formats);
+    }
+
+    String format(Object[] arguments) {
+        if (literal != null) {
+            return literal;
+        }
+        if (texts == null) {
+            return new MessageFormat(pattern, locale).format(arguments);
+        }
+
+        StringBuilder result = new StringBuilder(pattern.length() + 16 * argumentIndexes.length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            result.append(texts[i]);
+            appendArgument(result, i, arguments);
+        }
+        result.append(texts[argumentIndexes.length]);
+        return result.toString();
+    }
+
+    /**
+     * Mirrors MessageFormat#subformat()
+     */
+    private void appendArgument(StringBuilder result, int element, Object[] arguments) {
+        int argumentIndex = argumentIndexes[element];
+        if (arguments == null || argumentIndex >= arguments.length) {
+            result.append('{').append(argumentIndex).append('}');
+            return;
+        }
+
+        Object argument = arguments[argumentIndex];
+        Format format = formats[element];
+        if (argument == null) {
+            result.append("null");
+        } else if (format instanceof ChoiceFormat) {
+            String choice = format.format(argument);
+            if (choice.indexOf('{') >= 0) {
+                choice = new MessageFormat(choice, locale).format(arguments);
+            }
+            result.append(choice);
+        } else if (format != null) {
+            // number and date formats aren't thread-safe
+            result.append(((Format) format.clone()).format(argument));
+        } else if (argument instanceof Number) {
+            result.append(NumberFormat.getInstance(locale).format(argument));
+        } else if (argument instanceof Date) {
+            result.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(argument));
+        } else if (argument instanceof String) {
+            result.append((String) argument);
+        } else {
+            result.append(argument);
+        }
+    }
+
+    private static class ArgumentMarker extends Format {
+        static final ArgumentMarker INSTANCE = new ArgumentMarker();
+
+        @Override
+        public StringBuffer format(Object obj, StringBuffer toAppendTo, FieldPosition pos) {
+            return toAppendTo.append(ARGUMENT_START).append(obj).append(ARGUMENT_END);
+        }
+
+        @Override
+        public Object parseObject(String source, ParsePosition pos) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
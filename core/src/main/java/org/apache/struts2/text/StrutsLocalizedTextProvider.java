@@ -82,7 +82,7 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         }
 
         // search up class hierarchy
-        String msg = findMessage(startClazz, textKey, indexedTextName, locale, args, null, valueStack);
+        String msg = findCachedMessage(startClazz, textKey, indexedTextName, locale, args, valueStack);
 
         if (msg != null) {
             return msg;
@@ -99,7 +99,7 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
                 if (action instanceof ModelDriven) {
                     Object model = ((ModelDriven<?>) action).getModel();
                     if (model != null) {
-                        msg = findMessage(model.getClass(), textKey, indexedTextName, locale, args, null, valueStack);
+                        msg = findCachedMessage(model.getClass(), textKey, indexedTextName, locale, args, valueStack);
                         if (msg != null) {
                             return msg;
                         }
@@ -109,28 +109,9 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         }
 
         // nothing still? alright, search the package hierarchy now
-        for (Class<?> clazz = startClazz;
-             (clazz != null) && !clazz.equals(Object.class);
-             clazz = clazz.getSuperclass()) {
-
-            String basePackageName = clazz.getName();
-            while (basePackageName.lastIndexOf('.') != -1) {
-                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
-                String packageName = basePackageName + ".package";
-                msg = getMessage(packageName, locale, textKey, valueStack, args);
-
-                if (msg != null) {
-                    return msg;
-                }
-
-                if (indexedTextName != null) {
-                    msg = getMessage(packageName, locale, indexedTextName, valueStack, args);
-
-                    if (msg != null) {
-                        return msg;
-                    }
-                }
-            }
+        msg = findPackageMessage(startClazz, textKey, indexedTextName, locale, args, valueStack);
+        if (msg != null) {
+            return msg;
         }
 
         // see if it's a child property
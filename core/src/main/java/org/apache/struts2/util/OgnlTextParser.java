@@ -20,21 +20,84 @@ package org.apache.struts2.util;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * OGNL implementation of {@link TextParser}
+ * <p>
+ * Expression strings are parsed once into literal and expression segments and cached, so plain literals cost
+ * a single lookup and the first evaluation pass appends into a single {@link StringBuilder} instead of
+ * re-scanning and re-concatenating the whole string for every expression. Later passes (recursive evaluation
+ * up to {@code maxLoopCount} and the remaining open chars) keep the original scanning semantics.
  */
 public class OgnlTextParser implements TextParser {
 
+    private static final int MAX_PARSED_TEXTS = 10000;
+
+    private final Map<ParsedTextKey, ParsedText> parsedTexts = new ConcurrentHashMap<>();
+
     public Object evaluate(char[] openChars, String expression, TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount) {
-        // deal with the "pure" expressions first!
-        //expression = expression.trim();
-        Object result = expression = (expression == null) ? "" : expression;
+        if (expression == null) {
+            return "";
+        }
+        if (maxLoopCount < 1) {
+            // nothing gets evaluated, see the loop count check below
+            return expression;
+        }
+
+        ParsedText parsed = parse(openChars, expression);
+        if (parsed == ParsedText.LITERAL) {
+            return expression;
+        }
+
+        // first pass over the pre-parsed segments, mirroring the scanning loop below
+        final String lookupChars = openChars[parsed.openIndex] + "{";
+        StringBuilder builder = new StringBuilder(expression.length() + 16);
+        builder.append(parsed.literals[0]);
+        Object result = expression;
         int pos = 0;
+        int segment = 0;
+        for (; segment < parsed.variables.length; segment++) {
+            if (pos > builder.length() || builder.indexOf(lookupChars, pos) != -1) {
+                // an evaluated value changes where the scanner would continue, so leave the rest to it
+                break;
+            }
+            int leftLength = builder.length();
+            boolean rightEmpty = segment == parsed.variables.length - 1 && parsed.literals[segment + 1].isEmpty();
 
-        for (char open : openChars) {
+            Object o = evaluator.evaluate(parsed.variables[segment]);
+
+            String middle = null;
+            if (o != null) {
+                middle = o.toString();
+                builder.append(middle);
+            }
+            result = (o != null && leftLength == 0 && rightEmpty) ? o : null;
+            pos = (leftLength > 0 ? leftLength - 1 : 0) +
+                    (middle != null && !middle.isEmpty() ? middle.length() - 1 : 0) +
+                    1;
+            pos = Math.max(pos, 1);
+            builder.append(parsed.literals[segment + 1]);
+        }
+
+        if (segment < parsed.variables.length) {
+            builder.append(expression, parsed.starts[segment], expression.length());
+        }
+        String current = builder.toString();
+        if (result == null) {
+            result = current;
+        }
+        return evaluate(openChars, parsed.openIndex, current, result, pos, evaluator, maxLoopCount);
+    }
+
+    private Object evaluate(char[] openChars, int firstOpen, String expression, Object result, int pos,
+                            TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount) {
+        for (int i = firstOpen; i < openChars.length; i++) {
             int loopCount = 1;
             //this creates an implicit StringBuffer and shouldn't be used in the inner loop
-            final String lookupChars = open + "{";
+            final String lookupChars = openChars[i] + "{";
 
             while (true) {
                 int start = expression.indexOf(lookupChars, pos);
@@ -98,4 +161,109 @@ public class OgnlTextParser implements TextParser {
         }
         return result;
     }
+
+    private ParsedText parse(char[] openChars, String expression) {
+        ParsedTextKey key = new ParsedTextKey(openChars, expression);
+        ParsedText parsed = parsedTexts.get(key);
+        if (parsed == null) {
+            parsed = ParsedText.parse(openChars, expression);
+            if (parsedTexts.size() >= MAX_PARSED_TEXTS) {
+                parsedTexts.clear();
+            }
+            parsedTexts.put(new ParsedTextKey(openChars.clone(), expression), parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Literal and expression segments of a text for the first open char that occurs in it; the segments
+     * stop at the first unbalanced expression, which is kept as literal text just like the scanner does.
+     */
+    private static final class ParsedText {
+
+        static final ParsedText LITERAL = new ParsedText(-1, new String[0], new String[0], new int[0]);
+
+        final int openIndex;
+        final String[] literals;
+        final String[] variables;
+        final int[] starts;
+
+        private ParsedText(int openIndex, String[] literals, String[] variables, int[] starts) {
+            this.openIndex = openIndex;
+            this.literals = literals;
+            this.variables = variables;
+            this.starts = starts;
+        }
+
+        static ParsedText parse(char[] openChars, String expression) {
+            for (int i = 0; i < openChars.length; i++) {
+                String lookupChars = openChars[i] + "{";
+                if (expression.contains(lookupChars)) {
+                    return parse(i, lookupChars, expression);
+                }
+            }
+            return LITERAL;
+        }
+
+        private static ParsedText parse(int openIndex, String lookupChars, String expression) {
+            int[] starts = new int[4];
+            int[] ends = new int[4];
+            int segments = 0;
+            int pos = 0;
+            int start;
+            while ((start = expression.indexOf(lookupChars, pos)) != -1) {
+                int x = start + 2;
+                int count = 1;
+                while (x < expression.length() && count != 0) {
+                    char c = expression.charAt(x++);
+                    if (c == '{') {
+                        count++;
+                    } else if (c == '}') {
+                        count--;
+                    }
+                }
+                if (count != 0) {
+                    break;
+                }
+                if (segments == starts.length) {
+                    starts = Arrays.copyOf(starts, segments * 2);
+                    ends = Arrays.copyOf(ends, segments * 2);
+                }
+                starts[segments] = start;
+                ends[segments] = x - 1;
+                segments++;
+                pos = x;
+            }
+            if (segments == 0) {
+                // only an unbalanced expression, there is nothing to pre-parse
+                return new ParsedText(openIndex, new String[]{expression}, new String[0], new int[0]);
+            }
+
+            String[] literals = new String[segments + 1];
+            String[] variables = new String[segments];
+            int literalStart = 0;
+            for (int i = 0; i < segments; i++) {
+                literals[i] = expression.substring(literalStart, starts[i]);
+                variables[i] = expression.substring(starts[i] + 2, ends[i]);
+                literalStart = ends[i] + 1;
+            }
+            literals[segments] = expression.substring(literalStart);
+            return new ParsedText(openIndex, literals, variables, Arrays.copyOf(starts, segments));
+        }
+    }
+
+    private record ParsedTextKey(char[] openChars, String expression) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ParsedTextKey other
+                    && expression.equals(other.expression)
+                    && Arrays.equals(openChars, other.openChars);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * expression.hashCode() + Arrays.hashCode(openChars);
+        }
+    }
 }
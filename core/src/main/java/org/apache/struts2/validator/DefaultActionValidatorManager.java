@@ -40,8 +40,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static java.util.Collections.synchronizedMap;
 
 /**
  * <p>
@@ -67,8 +67,9 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
      */
     protected static final String VALIDATION_CONFIG_SUFFIX = "-validation.xml";
 
-    protected final Map<String, List<ValidatorConfig>> validatorCache = synchronizedMap(new HashMap<>());
-    protected final Map<String, List<ValidatorConfig>> validatorFileCache = synchronizedMap(new HashMap<>());
+    protected final Map<String, List<ValidatorConfig>> validatorCache = new ConcurrentHashMap<>();
+    protected final Map<String, List<ValidatorConfig>> validatorFileCache = new ConcurrentHashMap<>();
+    private final Map<String, ValidatorPlan> validatorPlans = new ConcurrentHashMap<>();
     private static final Logger LOG = LogManager.getLogger(DefaultActionValidatorManager.class);
 
     protected ValidatorFactory validatorFactory;
@@ -137,31 +138,49 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
     }
 
     @Override
-    public synchronized List<Validator> getValidators(Class<?> clazz, String context, String method) {
-        String validatorKey = buildValidatorKey(clazz, context);
-
-        if (!validatorCache.containsKey(validatorKey)) {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, false, null));
-        } else if (reloadingConfigs) {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, true, null));
-        }
+    public List<Validator> getValidators(Class<?> clazz, String context, String method) {
+        List<ValidatorConfig> configs = getValidatorPlan(clazz, context).getConfigs(method);
 
         ValueStack stack = ActionContext.getContext().getValueStack();
-        List<ValidatorConfig> configs = validatorCache.get(validatorKey);
-        List<Validator> validators = new ArrayList<>();
+        List<Validator> validators = new ArrayList<>(configs.size());
         for (ValidatorConfig config : configs) {
-            if (method == null || method.equals(config.getParams().get("methodName"))) {
-                validators.add(getValidatorFromValidatorConfig(config, stack));
-            }
+            validators.add(getValidatorFromValidatorConfig(config, stack));
         }
         return validators;
     }
 
     @Override
-    public synchronized List<Validator> getValidators(Class<?> clazz, String context) {
+    public List<Validator> getValidators(Class<?> clazz, String context) {
         return getValidators(clazz, context, null);
     }
 
+    /**
+     * Returns the validation plan for the given class and context. The plan is derived from the configs held in
+     * {@link #validatorCache}, so it is rebuilt whenever the cached configs are replaced or removed, also when
+     * reloading configs is enabled and the validator configs changed.
+     */
+    private ValidatorPlan getValidatorPlan(Class<?> clazz, String context) {
+        String validatorKey = buildValidatorKey(clazz, context);
+
+        List<ValidatorConfig> configs = validatorCache.get(validatorKey);
+        if (configs == null) {
+            configs = validatorCache.computeIfAbsent(validatorKey, key -> buildValidatorConfigs(clazz, context, false, null));
+        } else if (reloadingConfigs) {
+            List<ValidatorConfig> reloadedConfigs = buildValidatorConfigs(clazz, context, true, null);
+            if (!reloadedConfigs.equals(configs)) {
+                configs = reloadedConfigs;
+                validatorCache.put(validatorKey, configs);
+            }
+        }
+
+        ValidatorPlan plan = validatorPlans.get(validatorKey);
+        if (plan == null || !plan.isBuiltFrom(configs)) {
+            plan = new ValidatorPlan(configs);
+            validatorPlans.put(validatorKey, plan);
+        }
+        return plan;
+    }
+
     @Override
     public void validate(Object object, String context, ValidatorContext validatorContext, String method) throws ValidationException {
         List<Validator> validators = getValidators(object.getClass(), context, method);
@@ -348,4 +367,38 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
 
         return retList;
     }
+
+    /**
+     * Validator configs of a class and context, with the configs restricted to a method grouped up front
+     */
+    private static final class ValidatorPlan {
+
+        private final List<ValidatorConfig> source;
+        private final List<ValidatorConfig> configs;
+        private final Map<String, List<ValidatorConfig>> methodConfigs;
+
+        ValidatorPlan(List<ValidatorConfig> configs) {
+            this.source = configs;
+            this.configs = List.copyOf(configs);
+            Map<String, List<ValidatorConfig>> byMethod = new HashMap<>();
+            for (ValidatorConfig config : this.configs) {
+                if (config.getParams().get("methodName") instanceof String methodName) {
+                    byMethod.computeIfAbsent(methodName, name -> new ArrayList<>()).add(config);
+                }
+            }
+            byMethod.replaceAll((name, methodList) -> List.copyOf(methodList));
+            this.methodConfigs = Map.copyOf(byMethod);
+        }
+
+        boolean isBuiltFrom(List<ValidatorConfig> configs) {
+            return source == configs;
+        }
+
+        List<ValidatorConfig> getConfigs(String method) {
+            if (method == null) {
+                return configs;
+            }
+            return methodConfigs.getOrDefault(method, Collections.emptyList());
+        }
+    }
 }
@@ -134,12 +134,7 @@ public class RegexFieldValidator extends FieldValidatorSupport {
         }
 
         // match against expression
-        Pattern pattern;
-        if (isCaseSensitive()) {
-            pattern = Pattern.compile(regexToUse);
-        } else {
-            pattern = Pattern.compile(regexToUse, Pattern.CASE_INSENSITIVE);
-        }
+        Pattern pattern = getPattern(regexToUse, isCaseSensitive() ? 0 : Pattern.CASE_INSENSITIVE);
 
         String compare = value;
         if (isTrimed()) {
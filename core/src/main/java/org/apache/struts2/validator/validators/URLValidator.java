@@ -65,8 +65,10 @@ public class URLValidator extends FieldValidatorSupport {
             "(?:#(?:[a-z0-9$_.+!*'(),;:@&=\\-]|%[0-9a-f]{2})*)?" +
             "$";
 
+    private static final Pattern DEFAULT_URL_PATTERN = Pattern.compile(DEFAULT_URL_REGEX, Pattern.CASE_INSENSITIVE);
+
     private String urlRegexExpression;
-    private Pattern urlPattern = Pattern.compile(DEFAULT_URL_REGEX, Pattern.CASE_INSENSITIVE);
+    private Pattern urlPattern = DEFAULT_URL_PATTERN;
 
     public void validate(Object object) throws ValidationException {
         Object value = getFieldValue(fieldName, object);
@@ -117,9 +119,9 @@ public class URLValidator extends FieldValidatorSupport {
             String regex = (String) parse(urlRegexExpression, String.class);
             if (regex == null) {
                 LOG.warn("Provided URL Regex expression [{}] was evaluated to null! Falling back to default!", urlRegexExpression);
-                urlPattern = Pattern.compile(DEFAULT_URL_REGEX, Pattern.CASE_INSENSITIVE);
+                urlPattern = DEFAULT_URL_PATTERN;
             } else {
-                urlPattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
+                urlPattern = getPattern(regex, Pattern.CASE_INSENSITIVE);
             }
         }
         return urlPattern;
@@ -136,7 +138,7 @@ public class URLValidator extends FieldValidatorSupport {
     }
 
     public void setUrlRegex(String urlRegex) {
-        urlPattern = Pattern.compile(urlRegex, Pattern.CASE_INSENSITIVE);
+        urlPattern = getPattern(urlRegex, Pattern.CASE_INSENSITIVE);
     }
 
     public void setUrlRegexExpression(String urlRegexExpression) {
@@ -33,6 +33,9 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * Abstract implementation of the Validator interface suitable for subclassing.
@@ -47,6 +50,10 @@ public abstract class ValidatorSupport implements Validator, ShortCircuitableVal
 
     public static final String EMPTY_STRING = "";
 
+    private static final int MAX_PATTERNS = 1000;
+
+    private static final Map<PatternKey, Pattern> patterns = new ConcurrentHashMap<>();
+
     private ValidatorContext validatorContext;
     private boolean shortCircuit;
     private String type;
@@ -183,6 +190,28 @@ public abstract class ValidatorSupport implements Validator, ShortCircuitableVal
         return TextParseUtil.translateVariables('$', expression, stack, type);
     }
 
+    /**
+     * Returns the compiled pattern for the given regular expression and flags. Patterns are shared by all
+     * validators, so a regular expression is only compiled once no matter how many validator instances use it.
+     *
+     * @param regex the regular expression
+     * @param flags match flags, as accepted by {@link Pattern#compile(String, int)}
+     * @return the compiled pattern
+     * @since 7.1.0
+     */
+    protected static Pattern getPattern(String regex, int flags) {
+        PatternKey key = new PatternKey(regex, flags);
+        Pattern pattern = patterns.get(key);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex, flags);
+            if (patterns.size() >= MAX_PATTERNS) {
+                patterns.clear();
+            }
+            patterns.put(key, pattern);
+        }
+        return pattern;
+    }
+
     /**
      * Return the field value named <code>name</code> from <code>object</code>,
      * <code>object</code> should have the appropriate getter/setter.
@@ -218,4 +247,6 @@ public abstract class ValidatorSupport implements Validator, ShortCircuitableVal
         validatorContext.addFieldError(propertyName, getMessage(object));
     }
 
+    private record PatternKey(String regex, int flags) {
+    }
 }
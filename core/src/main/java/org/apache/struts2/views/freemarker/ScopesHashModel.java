@@ -61,6 +61,7 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
     private final ServletContext servletContext;
     private ValueStack stack;
     private final Map<String, TemplateModel> unlistedModels = new HashMap<>();
+    private final ScopesHashModel parent;
     private volatile Object attributesCache;
 
     public ScopesHashModel(ObjectWrapper objectWrapper, ServletContext context, HttpServletRequest request, ValueStack stack) {
@@ -68,6 +69,23 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
         this.servletContext = context;
         this.request = request;
         this.stack = stack;
+        this.parent = null;
+    }
+
+    /**
+     * Creates a model layered on top of the given one. Entries put into this model are only visible through it,
+     * everything else is resolved through the entries of the parent and the same scopes, so a model built once
+     * per request can be shared by many templates.
+     *
+     * @param parent the model to resolve all other keys with
+     * @since 7.1.0
+     */
+    public ScopesHashModel(ScopesHashModel parent) {
+        super(parent.getObjectWrapper());
+        this.servletContext = parent.servletContext;
+        this.request = parent.request;
+        this.stack = parent.stack;
+        this.parent = parent;
     }
 
     // This constructor is for Freemarker Sitemesh integration where the model is somehow lost...
@@ -75,6 +93,7 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
          super(objectWrapper);
          this.servletContext = context;
          this.request = request;
+         this.parent = null;
     }
 
     /**
@@ -91,6 +110,9 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
     public TemplateModel get(String key) throws TemplateModelException {
         // Lookup in default scope
         TemplateModel model = super.get(key);
+        if (model == null && parent != null) {
+            model = parent.getFromDefaultScope(key);
+        }
 
         if (model != null) {
             return model;
@@ -145,6 +167,9 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
 
         // Look in unlisted models
         model = unlistedModels.get(key);
+        if (model == null && parent != null) {
+            model = parent.unlistedModels.get(key);
+        }
         if(model != null) {
             return wrap(model);
         }
@@ -153,6 +178,14 @@ public class ScopesHashModel extends SimpleHash implements TemplateModel {
         return null;
     }
 
+    private TemplateModel getFromDefaultScope(String key) throws TemplateModelException {
+        TemplateModel model = super.get(key);
+        if (model == null && parent != null) {
+            model = parent.getFromDefaultScope(key);
+        }
+        return model;
+    }
+
     private Object findValueOnStack(final String key) {
         if (TAG_ATTRIBUTES.equals(key)) {
             if (attributesCache != null) {
@@ -454,4 +454,34 @@ public class UIBeanTest extends StrutsInternalTestCase {
         assertNull(bean.name);
     }
 
+    public void testFindStringForLiteralsAndExpressions() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        stack.push(Map.of("foo", "bar", "open", "%{foo}"));
+
+        assertEquals("plain label", bean.findString("plain label"));
+        assertEquals("} %{ is not an expression", bean.findString("} %{ is not an expression"));
+        assertEquals("bar", bean.findString("%{foo}"));
+        assertEquals("bar", bean.findString("%{foo}"));
+        assertEquals("%{foo}", bean.findString("%{open}"));
+        assertEquals("", bean.findString("%{missing}"));
+        assertEquals("bar and bar", bean.findString("%{foo} and %{foo}"));
+        assertEquals("{bar}", bean.findString("{%{foo}}"));
+        assertNull(bean.findString(null));
+        stack.pop();
+    }
+
+    public void testFindStringUsesInjectedTextParser() {
+        container.inject(bean);
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        stack.push(Map.of("foo", "bar"));
+
+        assertEquals("bar", bean.findString("%{foo}"));
+        assertEquals("bar and bar", bean.findString("%{foo} and %{foo}"));
+
+        bean.setTextParser((openChars, expression, evaluator, maxLoopCount) -> "parsed " + expression);
+        assertEquals("parsed %{foo}", bean.findString("%{foo}"));
+        assertEquals("plain label", bean.findString("plain label"));
+        stack.pop();
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components.template;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.ObjectWrapper;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.StrutsInternalTestCase;
+import org.apache.struts2.util.ValueStack;
+import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+public class FreemarkerTemplateEngineTest extends StrutsInternalTestCase {
+
+    private CountingConfiguration templateConfig;
+    private int builtModels;
+    private FreemarkerTemplateEngine engine;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        ServletActionContext.setRequest(new MockHttpServletRequest());
+        StringTemplateLoader loader = new StringTemplateLoader();
+        loader.putTemplate("template/simple/text.ftl", "simple text");
+        loader.putTemplate("template/simple/model.ftl", "${themeProperties.parent!'none'}-${shared}");
+        templateConfig = new CountingConfiguration();
+        templateConfig.setTemplateLoader(loader);
+        templateConfig.setTemplateUpdateDelayMilliseconds(60_000);
+
+        engine = new ThemedFreemarkerTemplateEngine();
+        engine.setFreemarkerManager(new FreemarkerManager() {
+            @Override
+            public synchronized Configuration getConfiguration(ServletContext servletContext) {
+                return templateConfig;
+            }
+
+            @Override
+            public ScopesHashModel buildTemplateModel(ValueStack stack, Object action, ServletContext servletContext,
+                                                      HttpServletRequest request, HttpServletResponse response, ObjectWrapper wrapper) {
+                builtModels++;
+                ScopesHashModel model = new ScopesHashModel(wrapper, servletContext, request, stack);
+                model.put("shared", "request");
+                return model;
+            }
+        });
+    }
+
+    public void testResolvedTemplateSkipsMissingCandidates() throws Exception {
+        assertEquals("simple text", render("custom", "text"));
+        assertEquals(List.of("/template/custom/text.ftl", "/template/simple/text.ftl"), templateConfig.requested);
+
+        templateConfig.requested.clear();
+        assertEquals("simple text", render("custom", "text"));
+        assertEquals(List.of("/template/simple/text.ftl"), templateConfig.requested);
+    }
+
+    public void testResolutionIsNotKeptWithoutUpdateDelay() throws Exception {
+        templateConfig.setTemplateUpdateDelayMilliseconds(0);
+        render("custom", "text");
+
+        templateConfig.requested.clear();
+        render("custom", "text");
+        assertEquals(List.of("/template/custom/text.ftl", "/template/simple/text.ftl"), templateConfig.requested);
+    }
+
+    public void testClearResolvedTemplates() throws Exception {
+        render("custom", "text");
+
+        templateConfig.requested.clear();
+        engine.clearResolvedTemplates();
+        render("custom", "text");
+        assertEquals(List.of("/template/custom/text.ftl", "/template/simple/text.ftl"), templateConfig.requested);
+    }
+
+    public void testTemplateModelIsSharedWithinRequest() throws Exception {
+        assertEquals("simple-request", render("custom", "model"));
+        assertEquals("none-request", render("simple", "model"));
+        assertEquals(1, builtModels);
+    }
+
+    public void testMissingTemplateIsReported() throws Exception {
+        try {
+            render("custom", "missing");
+            fail("Expected the missing template to be reported");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("/template/custom/missing.ftl"));
+        }
+    }
+
+    private String render(String theme, String name) throws Exception {
+        StringWriter writer = new StringWriter();
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        engine.renderTemplate(new TemplateRenderingContext(new Template("template", theme, name), writer, stack, new HashMap<>(), null));
+        return writer.toString();
+    }
+
+    private static class CountingConfiguration extends Configuration {
+
+        private final List<String> requested = new ArrayList<>();
+
+        CountingConfiguration() {
+            super(Configuration.VERSION_2_3_33);
+            setLocale(Locale.ENGLISH);
+        }
+
+        @Override
+        public freemarker.template.Template getTemplate(String name) throws IOException {
+            requested.add(name);
+            return super.getTemplate(name);
+        }
+    }
+
+    private static class ThemedFreemarkerTemplateEngine extends FreemarkerTemplateEngine {
+        @Override
+        public Map getThemeProps(Template template) {
+            Properties props = new Properties();
+            if ("custom".equals(template.getTheme())) {
+                props.setProperty("parent", "simple");
+            }
+            return props;
+        }
+    }
+}
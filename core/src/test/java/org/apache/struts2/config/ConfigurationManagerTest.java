@@ -25,10 +25,15 @@ import org.apache.struts2.config.providers.StrutsDefaultConfigurationProvider;
 import org.apache.struts2.conversion.TypeConverterHolder;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.ContainerBuilder;
+import org.apache.struts2.test.StubConfigurationProvider;
 import org.apache.struts2.util.location.LocatableProperties;
 import org.mockito.Mockito;
 
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -169,6 +174,70 @@ public class ConfigurationManagerTest extends XWorkTestCase {
         configProviderMock.verify();
     }
 
+    public void testConfigurationVersionIsIncrementedOnReload() {
+        configProviderMock.matchAndReturn("toString", "mock");
+        configProviderMock.matchAndReturn("needsReload", false);
+        configProviderMock.expect("init", C.isA(Configuration.class));
+        configProviderMock.expect("register", C.ANY_ARGS);
+        configProviderMock.expect("loadPackages", C.ANY_ARGS);
+
+        Configuration first = configurationManager.getConfiguration();
+        long version = configurationManager.getConfigurationVersion();
+        assertTrue(version > 0);
+
+        assertSame(first, configurationManager.getConfiguration());
+        assertEquals(version, configurationManager.getConfigurationVersion());
+
+        configProviderMock.expect("init", C.isA(Configuration.class));
+        configProviderMock.expect("register", C.ANY_ARGS);
+        configProviderMock.expect("loadPackages", C.ANY_ARGS);
+        configurationManager.reload();
+
+        assertEquals(version + 1, configurationManager.getConfigurationVersion());
+    }
+
+    public void testReadersWaitForRunningReload() throws Exception {
+        configProviderMock.matchAndReturn("toString", "mock");
+        configProviderMock.matchAndReturn("needsReload", false);
+        configProviderMock.matchAndReturn("init", C.isA(Configuration.class), null);
+        configProviderMock.matchAndReturn("register", C.ANY_ARGS, null);
+        configProviderMock.matchAndReturn("loadPackages", C.ANY_ARGS, null);
+
+        CountDownLatch registering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean block = new AtomicBoolean(false);
+        configurationManager.addContainerProvider(new StubConfigurationProvider() {
+            @Override
+            public void register(ContainerBuilder builder, LocatableProperties props) {
+                if (block.get()) {
+                    registering.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        configurationManager.getConfiguration();
+
+        block.set(true);
+        Thread reloader = new Thread(configurationManager::reload);
+        reloader.start();
+        assertTrue(registering.await(10, TimeUnit.SECONDS));
+
+        AtomicReference<Configuration> read = new AtomicReference<>();
+        Thread reader = new Thread(() -> read.set(configurationManager.getConfiguration()));
+        reader.start();
+        reader.join(200);
+        assertTrue("reader must wait for the running reload", reader.isAlive());
+
+        release.countDown();
+        reloader.join(10000);
+        reader.join(10000);
+        assertNotNull(read.get());
+    }
+
     public void testEarlyInitializable() throws Exception {
         TypeConverterHolder converterHolder = container.getInstance(TypeConverterHolder.class);
         assertTrue("java.io.File mapping should being putted by DefaultConversionPropertiesProcessor.init()",
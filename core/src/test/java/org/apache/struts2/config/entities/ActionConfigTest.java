@@ -18,9 +18,14 @@
  */
 package org.apache.struts2.config.entities;
 
+import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.XWorkTestCase;
+import org.apache.struts2.interceptor.Interceptor;
+import org.apache.struts2.interceptor.NoOpInterceptor;
 import org.apache.struts2.util.location.LocationImpl;
 
+import java.util.Iterator;
+
 /**
  * ActionConfigTest
  */
@@ -44,4 +49,38 @@ public class ActionConfigTest extends XWorkTestCase {
         assertTrue("Wrong toString(): "+cfg.toString(),
             "{ActionConfig bob (foo.Bar) - foo/xwork.xml:10:12 - allowedMethods=[]}".equals(cfg.toString()));
     }
+
+    public void testInterceptorChain() {
+        Interceptor first = new Interceptor() {
+            @Override
+            public void destroy() {
+            }
+
+            @Override
+            public void init() {
+            }
+
+            @Override
+            public String intercept(ActionInvocation invocation) {
+                return null;
+            }
+        };
+        Interceptor second = new NoOpInterceptor();
+        ActionConfig cfg = new ActionConfig.Builder("", "bob", "foo.Bar")
+                .addInterceptor(new InterceptorMapping("first", first))
+                .addInterceptor(new InterceptorMapping("second", second))
+                .build();
+
+        InterceptorChain chain = cfg.getInterceptorChain();
+        assertSame(chain, cfg.getInterceptorChain());
+        assertEquals(2, chain.size());
+        assertFalse(chain.get(0).isConditional());
+        assertTrue(chain.get(1).isConditional());
+
+        Iterator<InterceptorMapping> iterator = chain.iterator();
+        assertSame(first, iterator.next().getInterceptor());
+        assertSame(second, iterator.next().getInterceptor());
+        assertFalse(iterator.hasNext());
+        assertTrue(chain.iterator().hasNext());
+    }
 }
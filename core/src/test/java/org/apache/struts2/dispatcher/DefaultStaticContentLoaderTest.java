@@ -21,9 +21,21 @@ package org.apache.struts2.dispatcher;
 import java.io.IOException;
 import org.apache.struts2.StrutsInternalTestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import static org.easymock.EasyMock.createMock;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
@@ -131,6 +143,288 @@ public class DefaultStaticContentLoaderTest extends StrutsInternalTestCase {
         assertEquals("/content", loader.uiStaticContentPath);
     }
 
+    public void testCachedResourceWithETag() throws Exception {
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
+        defaultStaticContentLoader.setServeStaticCache("true");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals("text/javascript", response.getContentType());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        String etag = response.getHeader("ETag");
+        assertNotNull(etag);
+        byte[] content = response.getContentAsByteArray();
+        assertTrue(content.length > 0);
+        assertEquals(content.length, response.getContentLength());
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", etag);
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+
+        request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", "\"other\"");
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(content.length, response.getContentAsByteArray().length);
+    }
+
+    public void testCachedResourceGzipped() throws Exception {
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
+        defaultStaticContentLoader.setServeStaticCache("true");
+
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), plain);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "br;q=0, gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(new String(plain.getContentAsByteArray()), new String(gzip.readAllBytes()));
+        }
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip;q=0");
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertNull(response.getHeader("Content-Encoding"));
+    }
+
+    public void testGzippedResourceHasOwnETag() throws Exception {
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
+        defaultStaticContentLoader.setServeStaticCache("true");
+
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), plain);
+        byte[] content = plain.getContentAsByteArray();
+        String etag = plain.getHeader("ETag");
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse gzipped = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, gzipped);
+        String gzipEtag = gzipped.getHeader("ETag");
+
+        assertEquals("gzip", gzipped.getHeader("Content-Encoding"));
+        assertFalse(etag.equals(gzipEtag));
+        assertTrue(gzipEtag.endsWith("-gzip\""));
+
+        // resuming the gzip download must not return a slice of the identity body
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("Range", "bytes=10-");
+        request.addHeader("If-Range", gzipEtag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("Content-Range"));
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals(gzipEtag, response.getHeader("ETag"));
+        assertTrue(Arrays.equals(gzipped.getContentAsByteArray(), response.getContentAsByteArray()));
+
+        // If-Range with the identity ETag resumes the identity body
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("Range", "bytes=10-");
+        request.addHeader("If-Range", etag);
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(etag, response.getHeader("ETag"));
+        assertEquals(new String(content, 10, content.length - 10), response.getContentAsString());
+
+        // a cached gzip body is revalidated with its own ETag
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("If-None-Match", gzipEtag);
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(gzipEtag, response.getHeader("ETag"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+    }
+
+    public void testCachedResourceRange() throws Exception {
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
+        defaultStaticContentLoader.setServeStaticCache("true");
+
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), plain);
+        byte[] content = plain.getContentAsByteArray();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=10-19");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertEquals("bytes 10-19/" + content.length, response.getHeader("Content-Range"));
+        assertEquals(new String(content, 10, 10), response.getContentAsString());
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=-5");
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertEquals(new String(content, content.length - 5, 5), response.getContentAsString());
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=" + content.length + "-");
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatus());
+        assertEquals("bytes */" + content.length, response.getHeader("Content-Range"));
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=10-19");
+        request.addHeader("If-Range", "\"stale\"");
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(content.length, response.getContentAsByteArray().length);
+    }
+
+    public void testTooLargeResourceIsStreamedAndNotReadAgain() throws Exception {
+        File root = Files.createTempDirectory("static").toFile();
+        root.deleteOnExit();
+        byte[] large = new byte[DefaultStaticContentLoader.MAX_CACHED_RESOURCE_SIZE + 1];
+        Arrays.fill(large, (byte) 'a');
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+
+        DefaultStaticContentLoader loader = new DefaultStaticContentLoader() {
+            @Override
+            protected URL findResource(String path) throws IOException {
+                if (!path.endsWith("large.js")) {
+                    return null;
+                }
+                lookups.incrementAndGet();
+                File file = new File(root, path);
+                if (!file.exists()) {
+                    file.getParentFile().mkdirs();
+                    Files.write(file.toPath(), large);
+                    file.deleteOnExit();
+                }
+                URL fileUrl = file.toURI().toURL();
+                return new URL(null, fileUrl.toString(), new URLStreamHandler() {
+                    @Override
+                    protected URLConnection openConnection(URL u) throws IOException {
+                        reads.incrementAndGet();
+                        return fileUrl.openConnection();
+                    }
+                });
+            }
+        };
+        HostConfig hostConfigMock = createMock(HostConfig.class);
+        expect(hostConfigMock.getInitParameter("packages")).andStubReturn(null);
+        loader.setHostConfig(hostConfigMock);
+        loader.setEncoding("UTF-8");
+        loader.setStaticContentPath("/static");
+        loader.setServeStaticBrowserCache("true");
+        loader.setServeStaticCache("true");
+        loader.setServeStaticCacheMaxSize(String.valueOf(4 * large.length));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        loader.findStaticResource("/static/large.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertEquals(large.length, response.getContentAsByteArray().length);
+        assertEquals(1, lookups.get());
+        assertEquals(2, reads.get());
+
+        lookups.set(0);
+        reads.set(0);
+        response = new MockHttpServletResponse();
+        loader.findStaticResource("/static/large.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(large.length, response.getContentAsByteArray().length);
+        // the resource is known not to be cacheable, it is only looked up once and streamed
+        assertEquals(1, lookups.get());
+        assertEquals(1, reads.get());
+    }
+
+    public void testResourcesAreNotCachedByDefault() throws Exception {
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertTrue(response.getContentAsByteArray().length > 0);
+    }
+
+    public void testResourcesOverBudgetAreStreamed() throws Exception {
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
+        defaultStaticContentLoader.setServeStaticCache("true");
+        defaultStaticContentLoader.setServeStaticCacheMaxSize("1024");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertTrue(response.getContentAsByteArray().length > 1024);
+    }
+
+    public void testResourcesAreNotCachedWhenStreamingIsCustomised() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        DefaultStaticContentLoader loader = new DefaultStaticContentLoader() {
+            @Override
+            protected void process(InputStream is, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                processed.incrementAndGet();
+                super.process(is, path, request, response);
+            }
+        };
+        HostConfig hostConfigMock = createMock(HostConfig.class);
+        expect(hostConfigMock.getInitParameter("packages")).andStubReturn(null);
+        loader.setHostConfig(hostConfigMock);
+        loader.setEncoding("UTF-8");
+        loader.setStaticContentPath("/static");
+        loader.setServeStaticBrowserCache("true");
+        loader.setServeStaticCache("true");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        loader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        assertEquals(1, processed.get());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    public void testResourcesAreNotCachedInDevMode() throws Exception {
+        defaultStaticContentLoader.setServeStaticBrowserCache("true");
+        defaultStaticContentLoader.setServeStaticCache("true");
+        defaultStaticContentLoader.setDevMode("true");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertTrue(response.getContentAsByteArray().length > 0);
+    }
+
     protected void setUp() throws Exception {
         super.setUp();
         requestMock = createMock(HttpServletRequest.class);
@@ -48,6 +48,28 @@ public class StrutsResultFactoryTest extends StrutsInternalTestCase {
         assertEquals("ok", ((MyResult)result).getReject());
     }
 
+    public void testSetStringAndConvertedParams() throws Exception {
+        // given
+        initDispatcherWithConfigs("struts-default.xml");
+        StrutsResultFactory builder = (StrutsResultFactory) container.getInstance(ResultFactory.class);
+
+        Map<String, String> params = new HashMap<>();
+        params.put("location", "/index.jsp");
+        params.put("statusCode", "404");
+        ResultConfig config = new ResultConfig.Builder("struts", MyTypedResult.class.getName()).addParams(params).build();
+
+        // when
+        MyTypedResult first = (MyTypedResult) builder.buildResult(config, ActionContext.getContext().getContextMap());
+        MyTypedResult second = (MyTypedResult) builder.buildResult(config, ActionContext.getContext().getContextMap());
+
+        // then
+        assertNotSame(first, second);
+        assertEquals("/index.jsp", first.getLocation());
+        assertEquals(404, first.getStatusCode());
+        assertEquals("/index.jsp", second.getLocation());
+        assertEquals(404, second.getStatusCode());
+    }
+
     public void testUseCustomResultBuilder() throws Exception {
         // given
         initDispatcherWithConfigs("struts-default.xml,struts-object-factory-result-builder.xml");
@@ -59,6 +81,32 @@ public class StrutsResultFactoryTest extends StrutsInternalTestCase {
         assertTrue(actual instanceof MyResultFactory);
     }
 
+    public static class MyTypedResult implements Result {
+
+        private String location;
+        private int statusCode;
+
+        public void execute(ActionInvocation invocation) throws Exception {
+
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public void setStatusCode(int statusCode) {
+            this.statusCode = statusCode;
+        }
+    }
+
     public static class MyResult implements Result, ParamNameAwareResult {
 
         private String accept;
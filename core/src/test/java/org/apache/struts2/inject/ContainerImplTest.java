@@ -23,6 +23,7 @@ import org.apache.commons.lang3.SystemUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.InvocationTargetException;
 import java.security.Permission;
 import java.util.concurrent.Callable;
 
@@ -107,6 +108,21 @@ public class ContainerImplTest {
         assertNotNull(constructorCheck.getExistingName());
     }
 
+    @Test
+    public void privateMembersInjector() {
+        PrivateMembersCheck check = new PrivateMembersCheck();
+        c.inject(check);
+        assertEquals("Lukasz", check.fieldName);
+        assertEquals("Lukasz", check.methodName);
+    }
+
+    @Test
+    public void failingMethodInjectorIsWrapped() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> c.inject(new FailingMethodCheck()));
+        assertTrue(e.getCause() instanceof InvocationTargetException);
+        assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+    }
+
     /**
      * Inject values into field under SecurityManager
      */
@@ -259,6 +275,24 @@ public class ContainerImplTest {
         }
     }
 
+    private static class PrivateMembersCheck {
+        @Inject("fieldCheck.name")
+        private String fieldName;
+        private String methodName;
+
+        @Inject("methodCheck.name")
+        private void setMethodName(String methodName) {
+            this.methodName = methodName;
+        }
+    }
+
+    public static class FailingMethodCheck {
+        @Inject("methodCheck.name")
+        public void setName(String name) {
+            throw new IllegalStateException(name);
+        }
+    }
+
     public static class RequiredOptionalConstructorCheck {
         private final String existingName;
         private final String nonExitingName;
@@ -38,7 +38,9 @@ import org.apache.struts2.util.location.LocatableProperties;
 import jakarta.servlet.http.HttpSession;
 import org.apache.struts2.StrutsInternalTestCase;
 import org.apache.struts2.dispatcher.HttpParameters;
+import org.apache.struts2.interceptor.exec.BackgroundProcess;
 import org.apache.struts2.interceptor.exec.ExecutorProvider;
+import org.apache.struts2.interceptor.exec.StrutsBackgroundProcess;
 import org.apache.struts2.interceptor.parameter.ParametersInterceptor;
 import org.apache.struts2.views.jsp.StrutsMockHttpServletRequest;
 import org.apache.struts2.views.jsp.StrutsMockHttpSession;
@@ -51,6 +53,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Test case for ExecuteAndWaitInterceptor.
@@ -115,6 +118,58 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
         assertEquals("success", result3);
     }
 
+    public void testLongPoll() throws Exception {
+        waitInterceptor.setDelay(0);
+        waitInterceptor.setDelaySleepInterval(0);
+        waitInterceptor.setLongPollTimeout(2000);
+
+        ActionProxy proxy = buildProxy("action1");
+        String result = proxy.execute();
+        assertEquals("wait", result);
+
+        long before = System.currentTimeMillis();
+        ActionProxy proxy2 = buildProxy("action1");
+        String result2 = proxy2.execute();
+        long after = System.currentTimeMillis();
+        assertEquals("success", result2);
+        assertTrue("long poll should end when the process is done", (after - before) < 1900);
+    }
+
+    public void testLongPollKeepsNewerProcess() throws Exception {
+        waitInterceptor.setDelay(0);
+        waitInterceptor.setDelaySleepInterval(0);
+        waitInterceptor.setLongPollTimeout(2000);
+
+        ActionProxy proxy = buildProxy("action1");
+        String result = proxy.execute();
+        assertEquals("wait", result);
+
+        String key = session.keySet().iterator().next();
+        BackgroundProcess bp = (BackgroundProcess) session.get(key);
+
+        ActionProxy proxy2 = buildProxy("action1");
+        AtomicReference<Object> result2 = new AtomicReference<>();
+        Thread poll = new Thread(() -> {
+            try {
+                result2.set(proxy2.execute());
+            } catch (Exception e) {
+                result2.set(e);
+            }
+        });
+        poll.start();
+        Thread.sleep(100);
+
+        // another request of the session has replaced the process while the long poll waits outside the lock
+        BackgroundProcess newer = new StrutsBackgroundProcess(bp.getInvocation(), "newer", Thread.NORM_PRIORITY);
+        synchronized (httpSession) {
+            session.put(key, newer);
+        }
+
+        poll.join(5000);
+        assertEquals("success", result2.get());
+        assertSame(newer, session.get(key));
+    }
+
     public void testOneWaitWithDelay() throws Exception {
         waitInterceptor.setDelay(200);
         waitInterceptor.setDelaySleepInterval(100);
@@ -18,7 +18,10 @@
  */
 package org.apache.struts2.interceptor;
 
+import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.XWorkTestCase;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.mock.MockActionProxy;
 
 import java.util.HashSet;
 
@@ -83,4 +86,34 @@ public class MethodFilterInterceptorUtilTest extends XWorkTestCase {
 
     }
 
+    public void testMethodFilterInterceptorDecisionsFollowMethodChanges() {
+        MethodFilterInterceptor interceptor = new MethodFilterInterceptor() {
+            @Override
+            protected String doIntercept(ActionInvocation invocation) {
+                return "intercepted";
+            }
+        };
+        interceptor.setExcludeMethods("input,back*");
+
+        MockActionProxy proxy = new MockActionProxy();
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setProxy(proxy);
+
+        proxy.setMethod("input");
+        assertFalse(interceptor.applyInterceptor(invocation));
+        assertFalse(interceptor.applyInterceptor(invocation));
+        proxy.setMethod("backToStart");
+        assertFalse(interceptor.applyInterceptor(invocation));
+        proxy.setMethod("execute");
+        assertTrue(interceptor.applyInterceptor(invocation));
+
+        interceptor.setIncludeMethods("input");
+        proxy.setMethod("input");
+        assertTrue(interceptor.applyInterceptor(invocation));
+
+        interceptor.setExcludeMethods("*");
+        proxy.setMethod("execute");
+        assertFalse(interceptor.applyInterceptor(invocation));
+    }
+
 }
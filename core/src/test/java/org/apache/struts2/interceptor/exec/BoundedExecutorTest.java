@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class BoundedExecutorTest extends TestCase {
+
+    public void testBoundedPool() throws Exception {
+        assertBounded(new BoundedExecutor("test", 1, 1, false, true));
+    }
+
+    public void testVirtualThreads() throws Exception {
+        // falls back to the pool on JVMs without virtual threads
+        assertBounded(new BoundedExecutor("test", 1, 1, true, true));
+    }
+
+    public void testShutdown() {
+        BoundedExecutor executor = new BoundedExecutor("test", 1, 1, false, true);
+        executor.shutdown();
+
+        assertTrue(executor.isShutdown());
+        try {
+            executor.execute(() -> {
+            });
+            fail("Task should be rejected after shutdown");
+        } catch (RejectedExecutionException e) {
+            assertEquals(0, executor.getQueuedCount());
+        }
+    }
+
+    private void assertBounded(BoundedExecutor executor) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable task = () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        };
+
+        try {
+            executor.execute(task);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.execute(task);
+
+            try {
+                executor.execute(task);
+                fail("Third task should be rejected");
+            } catch (RejectedExecutionException e) {
+                // expected
+            }
+            assertEquals(1, executor.getActiveCount());
+            assertEquals(1, executor.getQueuedCount());
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -148,6 +148,18 @@ public class StrutsBackgroundProcessTest extends StrutsInternalTestCase {
         assertEquals(expected, bp.getException());
     }
 
+    public void testProcessInExecutorThread() throws Exception {
+        MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(() -> Thread.currentThread().getName());
+
+        BackgroundProcess bp = new StrutsBackgroundProcess(invocation, "InExecutor", Thread.NORM_PRIORITY, false).prepare();
+        executor.execute(bp);
+
+        assertEquals("InExecutor", bp.getCompletion().get(1000, TimeUnit.MILLISECONDS));
+        assertTrue(bp.isDone());
+        assertEquals("InExecutor", bp.getResult());
+        assertFalse("thread name should be restored", "InExecutor".equals(executor.submit(() -> Thread.currentThread().getName()).get()));
+    }
+
     public void testUnpreparedProcess() throws ExecutionException, InterruptedException, TimeoutException {
         // given
         MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(() -> "done");
@@ -31,6 +31,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -50,7 +51,11 @@ public class StrutsParameterAnnotationTest {
 
     @Before
     public void setUp() throws Exception {
-        parametersInterceptor = new ParametersInterceptor();
+        setUpInterceptor(new ParametersInterceptor());
+    }
+
+    private void setUpInterceptor(ParametersInterceptor interceptor) {
+        parametersInterceptor = interceptor;
         parametersInterceptor.setRequireAnnotations(Boolean.TRUE.toString());
 
         threadAllowlist = new ThreadAllowlist();
@@ -126,6 +131,37 @@ public class StrutsParameterAnnotationTest {
         assertThat(threadAllowlist.getAllowlist()).containsExactlyInAnyOrderElementsOf(getParentClasses(Pojo.class));
     }
 
+    @Test
+    public void publicPojoDepthOne_cachedVerdictReplaysAllowlist() {
+        testParameter(new FieldAction(), "publicPojoDepthOne.key", true);
+        threadAllowlist.clearAllowlist();
+
+        testParameter(new FieldAction(), "publicPojoDepthOne.other", true);
+        assertThat(threadAllowlist.getAllowlist()).containsExactlyInAnyOrderElementsOf(getParentClasses(Pojo.class));
+    }
+
+    @Test
+    public void publicPojoDepthZero_cachedVerdictRejects() {
+        testParameter(new FieldAction(), "publicPojoDepthZero.key", false);
+        testParameter(new FieldAction(), "publicPojoDepthZero.other", false);
+    }
+
+    @Test
+    public void publicPojoDepthOne_overriddenAllowlistClassAlwaysCalled() {
+        List<Class<?>> allowlisted = new ArrayList<>();
+        setUpInterceptor(new ParametersInterceptor() {
+            @Override
+            protected void allowlistClass(Class<?> clazz) {
+                allowlisted.add(clazz);
+                super.allowlistClass(clazz);
+            }
+        });
+
+        testParameter(new FieldAction(), "publicPojoDepthOne.key", true);
+        testParameter(new FieldAction(), "publicPojoDepthOne.other", true);
+        assertThat(allowlisted).containsExactly(Pojo.class, Pojo.class);
+    }
+
     @Test
     public void publicPojoDepthOne_sqrBracket() {
         testParameter(new FieldAction(), "publicPojoDepthOne['key']", true);
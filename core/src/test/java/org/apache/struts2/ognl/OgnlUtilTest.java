@@ -262,6 +262,28 @@ public class OgnlUtilTest extends XWorkTestCase {
         }
     }
 
+    public void testCallMethodDirectly() throws Exception {
+        Foo foo = new Foo();
+        foo.setTitle("direct");
+        Map<String, Object> context = ognlUtil.createDefaultContext(foo);
+
+        assertEquals("direct", ognlUtil.callMethodDirectly("getTitle", context, foo));
+        assertEquals("Direct method call must not go through the expression cache", 0, ognlUtil.expressionCacheSize());
+
+        context.put(ReflectionContextState.DENY_METHOD_EXECUTION, Boolean.TRUE);
+        assertNull(ognlUtil.callMethodDirectly("getTitle", context, foo));
+    }
+
+    public void testCallMethodDirectlyFallsBackToOgnl() {
+        Foo foo = new Foo();
+        Map<String, Object> context = ognlUtil.createDefaultContext(foo);
+
+        MethodFailedException e = assertThrows(MethodFailedException.class,
+                () -> ognlUtil.callMethodDirectly("getNonExistingMethod", context, foo));
+        assertTrue(e.getReason() instanceof NoSuchMethodException);
+        assertEquals(1, ognlUtil.expressionCacheSize());
+    }
+
     public void testClearExpressionCache() throws OgnlException {
         ognlUtil.setEnableExpressionCache("true");
         // Test that the expression cache is functioning as expected.
@@ -312,6 +334,21 @@ public class OgnlUtilTest extends XWorkTestCase {
         assertTrue("Expression cache empty after usage ?", ognlUtil.expressionCacheSize() > 0);
     }
 
+    public void testCacheComputeIfAbsent() {
+        List<OgnlCache<String, Object>> caches = List.of(
+                new OgnlDefaultCache<>(10, 16, 0.75f),
+                new OgnlLRUCache<>(10, 16, 0.75f),
+                new OgnlCaffeineCache<>(10, 16));
+        for (OgnlCache<String, Object> cache : caches) {
+            Object value = new Object();
+            assertSame(value, cache.computeIfAbsent("key", key -> value));
+            assertSame(value, cache.computeIfAbsent("key", key -> {
+                throw new AssertionError("Value must not be computed again by " + cache.getClass().getSimpleName());
+            }));
+            assertEquals(1, cache.size());
+        }
+    }
+
     public void testClearBeanInfoCache() throws IntrospectionException {
         final TestBean1 testBean1 = new TestBean1();
         final TestBean2 testBean2 = new TestBean2();
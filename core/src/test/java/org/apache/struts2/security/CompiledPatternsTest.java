@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.security;
+
+import junit.framework.TestCase;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+public class CompiledPatternsTest extends TestCase {
+
+    public void testReturnsMatchingPattern() {
+        // given
+        Pattern first = Pattern.compile("foo\\d+", Pattern.CASE_INSENSITIVE);
+        Pattern second = Pattern.compile("bar.*", Pattern.CASE_INSENSITIVE);
+        CompiledPatterns<String> compiled = new CompiledPatterns<>(setOf(first, second),
+                pattern -> pattern != null ? pattern.pattern() : "none");
+
+        // then
+        assertEquals("foo\\d+", compiled.check("FOO12"));
+        assertEquals("bar.*", compiled.check("barbaz"));
+        assertEquals("none", compiled.check("foo"));
+        assertEquals("none", compiled.check("bazbar"));
+    }
+
+    public void testPatternsWithBackReferences() {
+        // given
+        Pattern backReference = Pattern.compile("(a)\\1");
+        Pattern other = Pattern.compile("(b)c");
+        CompiledPatterns<Boolean> compiled = new CompiledPatterns<>(setOf(other, backReference), pattern -> pattern != null);
+
+        // then
+        assertTrue(compiled.check("aa"));
+        assertTrue(compiled.check("bc"));
+        assertFalse(compiled.check("ab"));
+    }
+
+    public void testPatternsWithDifferentFlags() {
+        // given
+        Pattern caseSensitive = Pattern.compile("abc");
+        Pattern caseInsensitive = Pattern.compile("def", Pattern.CASE_INSENSITIVE);
+        CompiledPatterns<Boolean> compiled = new CompiledPatterns<>(setOf(caseSensitive, caseInsensitive), pattern -> pattern != null);
+
+        // then
+        assertFalse(compiled.check("ABC"));
+        assertTrue(compiled.check("DEF"));
+    }
+
+    public void testVerdictsAreCached() {
+        // given
+        AtomicInteger verdicts = new AtomicInteger();
+        CompiledPatterns<Boolean> compiled = new CompiledPatterns<>(setOf(Pattern.compile("a.*")), pattern -> {
+            verdicts.incrementAndGet();
+            return pattern != null;
+        });
+
+        // when
+        assertTrue(compiled.check("abc"));
+        assertTrue(compiled.check("abc"));
+        assertFalse(compiled.check("bcd"));
+
+        // then
+        assertEquals(2, verdicts.get());
+    }
+
+    public void testIsCompiledFromSameSet() {
+        Set<Pattern> patterns = setOf(Pattern.compile("a"));
+        CompiledPatterns<Boolean> compiled = new CompiledPatterns<>(patterns, pattern -> pattern != null);
+
+        assertTrue(compiled.isCompiledFrom(patterns));
+        assertFalse(compiled.isCompiledFrom(setOf(Pattern.compile("a"))));
+    }
+
+    private static Set<Pattern> setOf(Pattern... patterns) {
+        Set<Pattern> set = new LinkedHashSet<>();
+        for (Pattern pattern : patterns) {
+            set.add(pattern);
+        }
+        return set;
+    }
+}
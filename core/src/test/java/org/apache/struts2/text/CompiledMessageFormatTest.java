@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.text;
+
+import junit.framework.TestCase;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+
+public class CompiledMessageFormatTest extends TestCase {
+
+    private static final String[] PATTERNS = {
+            "",
+            "Plain text",
+            "It''s quoted '{0}' text",
+            "Hello {0}!",
+            "{1} before {0}, again {1}",
+            "{0,number,#.##} items at {1,number,integer}",
+            "{0,date,yyyy-MM-dd} / {0,time,short}",
+            "There {0,choice,0#are no files|1#is one file|1<are {0,number,integer} files}.",
+            "Missing {3} argument",
+            "Default formats: {0} {1} {2} {3}"
+    };
+
+    private static final Object[][] ARGUMENTS = {
+            null,
+            {},
+            {"one", 2},
+            {1234.5678, new BigDecimal("42.1"), new Date(0L), null},
+            {0},
+            {1},
+            {5}
+    };
+
+    public void testSameOutputAsMessageFormat() {
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY}) {
+            for (String pattern : PATTERNS) {
+                CompiledMessageFormat compiled = CompiledMessageFormat.compile(pattern, locale);
+                for (Object[] arguments : ARGUMENTS) {
+                    String expected;
+                    try {
+                        expected = new MessageFormat(pattern, locale).format(arguments);
+                    } catch (IllegalArgumentException e) {
+                        assertFormatFails(compiled, arguments);
+                        continue;
+                    }
+                    assertEquals(pattern, expected, compiled.format(arguments));
+                }
+            }
+        }
+    }
+
+    public void testPatternWithMarkerCharacters() {
+        String pattern = "\uE000{0}\uE001";
+        assertEquals(new MessageFormat(pattern, Locale.US).format(new Object[]{"x"}),
+                CompiledMessageFormat.compile(pattern, Locale.US).format(new Object[]{"x"}));
+    }
+
+    public void testInvalidPattern() {
+        try {
+            CompiledMessageFormat.compile("Broken {0", Locale.US);
+            fail("Invalid pattern should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private void assertFormatFails(CompiledMessageFormat compiled, Object[] arguments) {
+        try {
+            compiled.format(arguments);
+            fail("Formatting should fail like MessageFormat does");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.struts2.util.Bar;
 import org.apache.struts2.util.ValueStack;
 
 import java.text.DateFormat;
+import java.text.MessageFormat;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.HashMap;
@@ -547,6 +548,39 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
         assertEquals("Result of bean2.name lookup not as expected ?", "Okay! You found Me!", messageResult);
     }
 
+    public void testFindTextCachesTextLocation() {
+        CountingLocalizedTextProvider provider = new CountingLocalizedTextProvider();
+        ValueStack valueStack = ActionContext.getContext().getValueStack();
+
+        assertEquals("Title:", provider.findText(Bar.class, "title", Locale.ENGLISH, null, null, valueStack));
+        int firstLookups = provider.bundleLookups;
+        provider.bundleLookups = 0;
+        assertEquals("Title:", provider.findText(Bar.class, "title", Locale.ENGLISH, null, null, valueStack));
+        assertEquals(1, provider.bundleLookups);
+        assertTrue(firstLookups > 1);
+
+        provider.bundleLookups = 0;
+        assertEquals("default", provider.findText(Bar.class, "missing.key", Locale.ENGLISH, "default", null, valueStack));
+        firstLookups = provider.bundleLookups;
+        provider.bundleLookups = 0;
+        assertEquals("default", provider.findText(Bar.class, "missing.key", Locale.ENGLISH, "default", null, valueStack));
+        assertTrue(provider.bundleLookups < firstLookups);
+
+        provider.callClearMissingBundlesCache();
+        provider.bundleLookups = 0;
+        assertEquals("default", provider.findText(Bar.class, "missing.key", Locale.ENGLISH, "default", null, valueStack));
+        assertEquals(firstLookups, provider.bundleLookups);
+    }
+
+    public void testOverriddenBuildMessageFormatIsUsed() {
+        MessageFormatLocalizedTextProvider provider = new MessageFormatLocalizedTextProvider();
+        ValueStack valueStack = ActionContext.getContext().getValueStack();
+
+        assertEquals("Hello World", provider.findText(Bar.class, "missing.key", Locale.ENGLISH, "Hello {0}", new Object[]{"World"}, valueStack));
+        assertEquals("Hello World", provider.findText(Bar.class, "missing.key", Locale.ENGLISH, "Hello {0}", new Object[]{"World"}, valueStack));
+        assertEquals(2, provider.builtFormats);
+    }
+
     @Override
     protected void setUp() throws Exception {
         super.setUp();
@@ -617,4 +651,24 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
             return reloadedObject instanceof Boolean && (Boolean) reloadedObject;
         }
     }
+
+    static class CountingLocalizedTextProvider extends TestStrutsLocalizedTextProvider {
+        int bundleLookups;
+
+        @Override
+        public ResourceBundle findResourceBundle(String bundleName, Locale locale) {
+            bundleLookups++;
+            return super.findResourceBundle(bundleName, locale);
+        }
+    }
+
+    static class MessageFormatLocalizedTextProvider extends StrutsLocalizedTextProvider {
+        int builtFormats;
+
+        @Override
+        protected MessageFormat buildMessageFormat(String pattern, Locale locale) {
+            builtFormats++;
+            return super.buildMessageFormat(pattern, locale);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.struts2.XWorkTestCase;
 import org.junit.Assert;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit test of {@link TextParseUtil}.
@@ -119,6 +120,32 @@ public class TextParseUtilTest extends XWorkTestCase {
         stack.pop();
     }
 
+    public void testTranslateVariablesReusesParsedText() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        Map<String, Object> values = new HashMap<>();
+        stack.push(values);
+
+        values.put("foo", "bar");
+        assertEquals("a bar b bar c", TextParseUtil.translateVariables("a ${foo} b %{foo} c", stack));
+        values.put("foo", "baz");
+        assertEquals("a baz b baz c", TextParseUtil.translateVariables("a ${foo} b %{foo} c", stack));
+        assertEquals("plain text", TextParseUtil.translateVariables("plain text", stack));
+        stack.pop();
+    }
+
+    public void testTranslateVariablesKeepsScannerSemantics() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        stack.push(new HashMap<String, Object>() {{ put("foo", null); put("bar", "x"); put("dollar", "a$"); }});
+
+        // an expression directly following an empty first expression is skipped by the scanner
+        assertEquals("${bar}", TextParseUtil.translateVariables('$', "${foo}${bar}", stack));
+        // an evaluated value may complete a following expression
+        assertEquals("-ax", TextParseUtil.translateVariables('$', "-${dollar}{bar}", stack));
+        // a single expression keeps its evaluated type
+        assertEquals(3, TextParseUtil.translateVariables('$', "${1+2}", stack, Object.class));
+        stack.pop();
+    }
+
     public void testCommaDelimitedStringToSet() {
         assertEquals(0, TextParseUtil.commaDelimitedStringToSet("").size());
         assertEquals(new HashSet<>(Arrays.asList("foo", "bar", "tee")),
@@ -152,6 +179,18 @@ public class TextParseUtilTest extends XWorkTestCase {
         assertEquals("foo: ${1+1}", s);
     }
 
+    public void testTranslateVariablesZeroLoopCount() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        AtomicInteger evaluations = new AtomicInteger();
+
+        Object s = new OgnlTextParser().evaluate(new char[]{'$'}, "foo: ${1+1}", parsedValue -> {
+            evaluations.incrementAndGet();
+            return stack.findValue(parsedValue);
+        }, 0);
+        assertEquals("foo: ${1+1}", s);
+        assertEquals(0, evaluations.get());
+    }
+
     public void testTranslateVariablesRecursive() {
         ValueStack stack = ActionContext.getContext().getValueStack();
         stack.push(new HashMap<String, Object>() {{ put("foo", "${1+1}"); put("bar", "${${1+2}}"); }});
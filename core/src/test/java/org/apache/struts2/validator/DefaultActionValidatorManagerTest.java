@@ -40,6 +40,7 @@ import org.assertj.core.api.Assertions;
 import org.xml.sax.SAXParseException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -101,6 +102,30 @@ public class DefaultActionValidatorManagerTest extends XWorkTestCase {
         );
     }
 
+    public void testGetValidatorsBuildsNewValidatorsFromCachedPlan() {
+        List<Validator> first = actionValidatorManager.getValidators(SimpleAction.class, alias);
+        List<Validator> second = actionValidatorManager.getValidators(SimpleAction.class, alias);
+
+        assertThat(second).hasSameSizeAs(first);
+        for (int i = 0; i < first.size(); i++) {
+            assertNotSame(first.get(i), second.get(i));
+            assertSame(first.get(i).getClass(), second.get(i).getClass());
+        }
+        assertThat(actionValidatorManager.validatorCache).containsKey(SimpleAction.class.getName() + "/" + alias);
+        assertThat(actionValidatorManager.getValidators(SimpleAction.class, alias, "unknownMethod")).isEmpty();
+    }
+
+    public void testGetValidatorsFollowsValidatorCache() {
+        String validatorKey = SimpleAction.class.getName() + "/" + alias;
+        assertThat(actionValidatorManager.getValidators(SimpleAction.class, alias)).isNotEmpty();
+
+        actionValidatorManager.validatorCache.put(validatorKey, Collections.emptyList());
+        assertThat(actionValidatorManager.getValidators(SimpleAction.class, alias)).isEmpty();
+
+        actionValidatorManager.validatorCache.clear();
+        assertThat(actionValidatorManager.getValidators(SimpleAction.class, alias)).isNotEmpty();
+    }
+
     public void testBuildsValidatorsForAliasError() {
         assertThatThrownBy(() -> actionValidatorManager.getValidators(TestBean.class, "badtest"))
                 .isInstanceOf(StrutsException.class)
@@ -24,6 +24,8 @@ import org.apache.struts2.ognl.OgnlValueStack;
 import org.apache.struts2.util.ValueStackFactory;
 import org.apache.struts2.validator.ValidationException;
 
+import java.util.regex.Pattern;
+
 public class ValidatorSupportTest extends XWorkTestCase {
 
     public void testConditionalParseExpression() {
@@ -43,4 +45,23 @@ public class ValidatorSupportTest extends XWorkTestCase {
         assertEquals(result1, "somevalue");
     }
 
+    public void testGetPatternIsSharedPerRegexAndFlags() {
+        Pattern pattern = ValidatorSupport.getPattern("[a-z]+", Pattern.CASE_INSENSITIVE);
+
+        assertSame(pattern, ValidatorSupport.getPattern("[a-z]+", Pattern.CASE_INSENSITIVE));
+        assertNotSame(pattern, ValidatorSupport.getPattern("[a-z]+", 0));
+        assertTrue(pattern.matcher("ABC").matches());
+        assertFalse(ValidatorSupport.getPattern("[a-z]+", 0).matcher("ABC").matches());
+    }
+
+    public void testUrlValidatorsShareCompiledPattern() {
+        URLValidator first = new URLValidator();
+        URLValidator second = new URLValidator();
+        assertSame(first.getUrlPattern(), second.getUrlPattern());
+
+        first.setUrlRegex("^https://example\\.com/.*$");
+        second.setUrlRegex("^https://example\\.com/.*$");
+        assertSame(first.getUrlPattern(), second.getUrlPattern());
+    }
+
 }
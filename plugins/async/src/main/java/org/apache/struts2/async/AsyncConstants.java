@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+/**
+ * Constants used to configure the Async plugin
+ *
+ * @since 7.1.0
+ */
+public final class AsyncConstants {
+
+    /** Whether to execute each async action in a virtual thread (Java 21+) instead of a shared bounded pool */
+    public static final String STRUTS_ASYNC_EXECUTOR_VIRTUAL_THREADS = "struts.async.executor.virtualThreads";
+    /** Max number of async actions executed concurrently */
+    public static final String STRUTS_ASYNC_EXECUTOR_MAX_THREADS = "struts.async.executor.maxThreads";
+    /** Max number of async actions waiting for execution, more actions are rejected */
+    public static final String STRUTS_ASYNC_EXECUTOR_QUEUE_CAPACITY = "struts.async.executor.queueCapacity";
+
+    private AsyncConstants() {
+    }
+}
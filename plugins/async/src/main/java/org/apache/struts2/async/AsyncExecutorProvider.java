@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Executes async actions which don't provide their own {@link java.util.concurrent.Executor}
+ * via {@link AsyncAction} and exposes basic metrics about them.
+ *
+ * @since 7.1.0
+ */
+public interface AsyncExecutorProvider {
+
+    /**
+     * @param task the async action to execute
+     * @throws RejectedExecutionException if the task cannot be accepted for execution
+     */
+    void execute(Runnable task);
+
+    /**
+     * Notifies that the container timed out waiting for an async action
+     */
+    void taskTimedOut();
+
+    /**
+     * @return number of async actions being executed
+     */
+    int getActiveCount();
+
+    /**
+     * @return number of async actions waiting for execution
+     */
+    int getQueuedCount();
+
+    /**
+     * @return number of async actions rejected so far
+     */
+    long getRejectedCount();
+
+    /**
+     * @return number of async actions which timed out so far
+     */
+    long getTimeoutCount();
+
+    void shutdown();
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.DispatcherListener;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.interceptor.exec.BoundedExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default {@link AsyncExecutorProvider} executing async actions with a {@link BoundedExecutor}, either backed
+ * by a shared bounded thread pool or by a virtual thread per task when running on Java 21+. In both cases at most
+ * "maxThreads" actions are executed concurrently, at most "queueCapacity" actions wait for execution and the others
+ * are rejected.
+ *
+ * @since 7.1.0
+ */
+public class DefaultAsyncExecutorProvider implements AsyncExecutorProvider, DispatcherListener {
+
+    private static final Logger LOG = LogManager.getLogger(DefaultAsyncExecutorProvider.class);
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    private boolean virtualThreads = false;
+    private int maxThreads = 20;
+    private int queueCapacity = 100;
+
+    private volatile BoundedExecutor executor;
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_EXECUTOR_VIRTUAL_THREADS, required = false)
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = Boolean.parseBoolean(virtualThreads);
+    }
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_EXECUTOR_MAX_THREADS, required = false)
+    public void setMaxThreads(String maxThreads) {
+        this.maxThreads = Integer.parseInt(maxThreads);
+    }
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_EXECUTOR_QUEUE_CAPACITY, required = false)
+    public void setQueueCapacity(String queueCapacity) {
+        this.queueCapacity = Integer.parseInt(queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        BoundedExecutor boundedExecutor = getExecutor();
+        try {
+            boundedExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            LOG.warn("Async action: {} rejected, active: {}, queued: {}", task,
+                boundedExecutor.getActiveCount(), boundedExecutor.getQueuedCount());
+            throw e;
+        }
+    }
+
+    private BoundedExecutor getExecutor() {
+        BoundedExecutor result = executor;
+        if (result == null) {
+            synchronized (this) {
+                result = executor;
+                if (result == null) {
+                    result = createExecutor();
+                    executor = result;
+                    Dispatcher.addDispatcherListener(this);
+                }
+            }
+        }
+        return result;
+    }
+
+    protected BoundedExecutor createExecutor() {
+        return new BoundedExecutor(DefaultAsyncExecutorProvider.class.getSimpleName(), maxThreads, queueCapacity, virtualThreads, true);
+    }
+
+    @Override
+    public void taskTimedOut() {
+        timeouts.incrementAndGet();
+    }
+
+    @Override
+    public int getActiveCount() {
+        BoundedExecutor current = executor;
+        return current != null ? current.getActiveCount() : 0;
+    }
+
+    @Override
+    public int getQueuedCount() {
+        BoundedExecutor current = executor;
+        return current != null ? current.getQueuedCount() : 0;
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeouts.get();
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (executor != null) {
+            LOG.debug("Shutting down async executor");
+            executor.shutdown();
+            executor = null;
+            Dispatcher.removeDispatcherListener(this);
+        }
+    }
+
+    @Override
+    public void dispatcherInitialized(Dispatcher du) {
+        // nothing to do
+    }
+
+    @Override
+    public void dispatcherDestroyed(Dispatcher du) {
+        shutdown();
+    }
+}
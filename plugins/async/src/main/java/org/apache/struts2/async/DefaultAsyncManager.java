@@ -22,6 +22,7 @@ import org.apache.struts2.AsyncManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.inject.Inject;
 
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.AsyncEvent;
@@ -30,6 +31,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -45,6 +47,17 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
     private boolean asyncActionStarted;
     private Boolean asyncCompleted;
     private Object asyncActionResult;
+    private AsyncExecutorProvider executorProvider;
+
+    /**
+     * @param executorProvider executes async actions which don't provide their own executor, if not set
+     *                         a new thread is started for each of them
+     * @since 7.1.0
+     */
+    @Inject(required = false)
+    public void setAsyncExecutorProvider(AsyncExecutorProvider executorProvider) {
+        this.executorProvider = executorProvider;
+    }
 
     @Override
     public void invokeAsyncAction(final Callable asyncAction) {
@@ -86,6 +99,12 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
         };
         if (executor != null) {
             executor.execute(task);
+        } else if (executorProvider != null) {
+            try {
+                executorProvider.execute(task);
+            } catch (RejectedExecutionException e) {
+                setAsyncActionResultAndDispatch(e);
+            }
         } else {
             final Thread thread = new Thread(new Runnable() {
                 @Override
@@ -132,6 +151,9 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
     @Override
     public void onTimeout(AsyncEvent asyncEvent) throws IOException {
         LOG.debug("Processing timeout for " + asyncEvent.getAsyncContext());
+        if (executorProvider != null) {
+            executorProvider.taskTimedOut();
+        }
         setAsyncActionResultAndDispatch(AsyncAction.TIMEOUT);
     }
 
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class DefaultAsyncExecutorProviderTest extends TestCase {
+
+    private DefaultAsyncExecutorProvider provider;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        provider = new DefaultAsyncExecutorProvider();
+        provider.setMaxThreads("1");
+        provider.setQueueCapacity("1");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        provider.shutdown();
+        super.tearDown();
+    }
+
+    public void testBoundedPool() throws Exception {
+        assertBounded();
+    }
+
+    public void testVirtualThreads() throws Exception {
+        provider.setVirtualThreads("true");
+        // falls back to the pool on JVMs without virtual threads
+        assertBounded();
+    }
+
+    public void testTimeouts() {
+        provider.taskTimedOut();
+        assertEquals(1, provider.getTimeoutCount());
+    }
+
+    private void assertBounded() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable task = () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        };
+
+        provider.execute(task);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        provider.execute(task);
+
+        try {
+            provider.execute(task);
+            fail("Third task should be rejected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(1, provider.getActiveCount());
+        assertEquals(1, provider.getQueuedCount());
+        assertEquals(1, provider.getRejectedCount());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -110,4 +110,46 @@ public class DefaultAsyncManagerTest extends XWorkTestCase {
             fail("async result did not received on timeout!");
         }
     }
+
+    public void testInvokeAsyncActionWithExecutorProvider() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        ServletActionContext.setRequest(request);
+
+        final Semaphore lock = new Semaphore(1);
+        lock.acquire();
+
+        AsyncAction asyncAction = new AsyncAction(new Callable() {
+            @Override
+            public Object call() throws Exception {
+                final MockAsyncContext mockAsyncContext = (MockAsyncContext) request.getAsyncContext();
+                mockAsyncContext.addDispatchHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        mockAsyncContext.complete();
+                        lock.release();
+                    }
+                });
+
+                return Thread.currentThread().getName();
+            }
+        });
+
+        DefaultAsyncExecutorProvider executorProvider = new DefaultAsyncExecutorProvider();
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.setAsyncExecutorProvider(executorProvider);
+        try {
+            asyncManager.invokeAsyncAction(asyncAction);
+
+            if (lock.tryAcquire(1500L, TimeUnit.MILLISECONDS)) {
+                assertTrue("an async result is expected", asyncManager.hasAsyncActionResult());
+                assertTrue(asyncManager.getAsyncActionResult().toString().startsWith(DefaultAsyncExecutorProvider.class.getSimpleName()));
+            } else {
+                fail("async result did not received on timeout!");
+            }
+        } finally {
+            executorProvider.shutdown();
+        }
+    }
 }
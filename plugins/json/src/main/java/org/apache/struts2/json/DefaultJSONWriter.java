@@ -32,17 +32,26 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.CharacterIterator;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.text.StringCharacterIterator;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Stack;
@@ -64,8 +73,10 @@ public class DefaultJSONWriter implements JSONWriter {
 
     private static final ConcurrentMap<Class<?>, BeanInfo> BEAN_INFO_CACHE_IGNORE_HIERARCHY = new ConcurrentHashMap<>();
     private static final ConcurrentMap<Class<?>, BeanInfo> BEAN_INFO_CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<PlanKey, BeanPlan> BEAN_PLAN_CACHE = new ConcurrentHashMap<>();
 
     private StringBuilder buf = new StringBuilder();
+    private Appendable out = buf;
     private Stack<Object> stack = new Stack<>();
     private boolean ignoreHierarchy = true;
     private Object root;
@@ -109,8 +120,32 @@ public class DefaultJSONWriter implements JSONWriter {
     @Override
     public String write(Object object, Collection<Pattern> excludeProperties,
                         Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException {
-        this.excludeNullProperties = excludeNullProperties;
         this.buf.setLength(0);
+        this.out = this.buf;
+        this.serialize(object, excludeProperties, includeProperties, excludeNullProperties);
+
+        return this.buf.toString();
+    }
+
+    /**
+     * Serializes the object directly into the writer, nothing is buffered besides what the writer buffers itself.
+     */
+    @Override
+    public void write(Object object, Collection<Pattern> excludeProperties, Collection<Pattern> includeProperties,
+                      boolean excludeNullProperties, Writer out) throws JSONException, IOException {
+        this.out = out;
+        try {
+            this.serialize(object, excludeProperties, includeProperties, excludeNullProperties);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.out = this.buf;
+        }
+    }
+
+    private void serialize(Object object, Collection<Pattern> excludeProperties,
+                           Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException {
+        this.excludeNullProperties = excludeNullProperties;
         this.stack.clear();
         this.root = object;
         this.exprStack = "";
@@ -119,8 +154,6 @@ public class DefaultJSONWriter implements JSONWriter {
         this.excludeProperties = excludeProperties;
         this.includeProperties = includeProperties;
         this.value(object, null);
-
-        return this.buf.toString();
     }
 
     /**
@@ -218,55 +251,31 @@ public class DefaultJSONWriter implements JSONWriter {
     protected void bean(Object object) throws JSONException {
         this.add("{");
 
-        BeanInfo info;
-
         try {
             Class clazz = excludeProxyProperties ? ProxyUtil.ultimateTargetClass(object) : object.getClass();
 
-            info = ((object == this.root) && this.ignoreHierarchy)
-                    ? getBeanInfoIgnoreHierarchy(clazz)
-                    : getBeanInfo(clazz);
-
-            PropertyDescriptor[] props = info.getPropertyDescriptors();
+            BeanPlan plan = getBeanPlan(clazz, (object == this.root) && this.ignoreHierarchy);
 
             boolean hasData = false;
-            for (PropertyDescriptor prop : props) {
-                String name = prop.getName();
-                Method accessor = prop.getReadMethod();
-                Method baseAccessor = findBaseAccessor(clazz, accessor);
-
-                if (baseAccessor != null) {
-                    if (baseAccessor.isAnnotationPresent(JSON.class)) {
-                        JSONAnnotationFinder jsonFinder = new JSONAnnotationFinder(baseAccessor).invoke();
-
-                        if (!jsonFinder.shouldSerialize()) continue;
-                        if (jsonFinder.getName() != null) {
-                            name = jsonFinder.getName();
-                        }
-                    }
-                    // ignore "class" and others
-                    if (this.shouldExcludeProperty(prop)) {
+            for (PropertyPlan prop : plan.properties) {
+                String expr = null;
+                if (this.buildExpr) {
+                    expr = this.expandExpr(prop.name);
+                    if (this.shouldExcludeProperty(expr)) {
                         continue;
                     }
-                    String expr = null;
-                    if (this.buildExpr) {
-                        expr = this.expandExpr(name);
-                        if (this.shouldExcludeProperty(expr)) {
-                            continue;
-                        }
-                        expr = this.setExprStack(expr);
-                    }
+                    expr = this.setExprStack(expr);
+                }
 
-                    Object value = accessor.invoke(object);
-                    if (baseAccessor.isAnnotationPresent(JSONFieldBridge.class)) {
-                        value = getBridgedValue(baseAccessor, value);
-                    }
+                Object value = prop.read(object);
+                if (prop.bridged) {
+                    value = getBridgedValue(prop.baseAccessor, value);
+                }
 
-                    boolean propertyPrinted = this.add(name, value, accessor, hasData);
-                    hasData = hasData || propertyPrinted;
-                    if (this.buildExpr) {
-                        this.setExprStack(expr);
-                    }
+                boolean propertyPrinted = this.add(prop.name, value, prop.accessor, hasData);
+                hasData = hasData || propertyPrinted;
+                if (this.buildExpr) {
+                    this.setExprStack(expr);
                 }
             }
 
@@ -276,6 +285,9 @@ public class DefaultJSONWriter implements JSONWriter {
                 Object value = ((Enum) object).name();
                 this.add("_name", value, object.getClass().getMethod("name"), hasData);
             }
+        } catch (UncheckedIOException e) {
+            // failure of the underlying writer, unwrapped by write(..., Writer)
+            throw e;
         } catch (Exception e) {
             throw new JSONException(e);
         }
@@ -283,6 +295,52 @@ public class DefaultJSONWriter implements JSONWriter {
         this.add("}");
     }
 
+    /**
+     * Returns the serialization plan of the class: properties to serialize in order, with their names and accessors,
+     * built once from the {@link BeanInfo} and {@link JSON} annotations, unless bean info caching is disabled
+     */
+    private BeanPlan getBeanPlan(Class<?> clazz, boolean ignoreHierarchy) throws Exception {
+        if (!cacheBeanInfo) {
+            return buildBeanPlan(clazz, ignoreHierarchy);
+        }
+        PlanKey key = new PlanKey(getClass(), clazz, ignoreHierarchy);
+        BeanPlan plan = BEAN_PLAN_CACHE.get(key);
+        if (plan == null) {
+            plan = buildBeanPlan(clazz, ignoreHierarchy);
+            BEAN_PLAN_CACHE.putIfAbsent(key, plan);
+        }
+        return plan;
+    }
+
+    private BeanPlan buildBeanPlan(Class<?> clazz, boolean ignoreHierarchy) throws Exception {
+        BeanInfo info = ignoreHierarchy ? getBeanInfoIgnoreHierarchy(clazz) : getBeanInfo(clazz);
+
+        List<PropertyPlan> properties = new ArrayList<>();
+        for (PropertyDescriptor prop : info.getPropertyDescriptors()) {
+            String name = prop.getName();
+            Method accessor = prop.getReadMethod();
+            Method baseAccessor = findBaseAccessor(clazz, accessor);
+
+            if (baseAccessor != null) {
+                if (baseAccessor.isAnnotationPresent(JSON.class)) {
+                    JSONAnnotationFinder jsonFinder = new JSONAnnotationFinder(baseAccessor).invoke();
+
+                    if (!jsonFinder.shouldSerialize()) continue;
+                    if (jsonFinder.getName() != null) {
+                        name = jsonFinder.getName();
+                    }
+                }
+                // ignore "class" and others
+                if (this.shouldExcludeProperty(prop)) {
+                    continue;
+                }
+                properties.add(new PropertyPlan(name, accessor, baseAccessor,
+                        baseAccessor.isAnnotationPresent(JSONFieldBridge.class)));
+            }
+        }
+        return new BeanPlan(properties.toArray(new PropertyPlan[0]));
+    }
+
     protected BeanInfo getBeanInfoIgnoreHierarchy(final Class<?> clazz) throws IntrospectionException {
         BeanInfo beanInfo = BEAN_INFO_CACHE_IGNORE_HIERARCHY.get(clazz);
         if (beanInfo != null) {
@@ -615,14 +673,22 @@ public class DefaultJSONWriter implements JSONWriter {
      * Add object to buffer
      */
     protected void add(Object obj) {
-        this.buf.append(obj);
+        try {
+            this.out.append(String.valueOf(obj));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /*
      * Add char to buffer
      */
     protected void add(char c) {
-        this.buf.append(c);
+        try {
+            this.out.append(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /**
@@ -678,6 +744,51 @@ public class DefaultJSONWriter implements JSONWriter {
         this.excludeProxyProperties = excludeProxyProperties;
     }
 
+    private record PlanKey(Class<?> writerClass, Class<?> beanClass, boolean ignoreHierarchy) {
+    }
+
+    private record BeanPlan(PropertyPlan[] properties) {
+    }
+
+    private static final class PropertyPlan {
+        private final String name;
+        private final Method accessor;
+        private final Method baseAccessor;
+        private final boolean bridged;
+        private final MethodHandle getter;
+
+        PropertyPlan(String name, Method accessor, Method baseAccessor, boolean bridged) {
+            this.name = name;
+            this.accessor = accessor;
+            this.baseAccessor = baseAccessor;
+            this.bridged = bridged;
+            this.getter = unreflectGetter(accessor);
+        }
+
+        Object read(Object object) throws Exception {
+            if (getter == null) {
+                return accessor.invoke(object);
+            }
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private static MethodHandle unreflectGetter(Method accessor) {
+            try {
+                return MethodHandles.publicLookup().unreflect(accessor)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                // not accessible through a public lookup, fall back to reflection
+                return null;
+            }
+        }
+    }
+
     protected static class JSONAnnotationFinder {
         private boolean serialize = true;
         private Method accessor;
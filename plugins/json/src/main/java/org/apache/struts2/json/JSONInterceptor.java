@@ -38,6 +38,7 @@ import org.apache.struts2.json.rpc.RPCResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.beans.IntrospectionException;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -70,6 +71,10 @@ public class JSONInterceptor extends AbstractInterceptor {
     private String callbackParameter;
     private String jsonContentType = "application/json";
     private String jsonRpcContentType = "application/json-rpc";
+    private long maxLength = -1;
+    private int maxDepth = -1;
+    private int maxElements = -1;
+    private int maxStringLength = -1;
 
     @SuppressWarnings("unchecked")
     public String intercept(ActionInvocation invocation) throws Exception {
@@ -91,7 +96,7 @@ public class JSONInterceptor extends AbstractInterceptor {
 
         if (jsonContentType.equalsIgnoreCase(requestContentType)) {
             // load JSON object
-            Object obj = JSONUtil.deserialize(request.getReader());
+            Object obj = readJSON(request);
 
             // JSON array (this.root cannot be null in this case)
             if(obj instanceof List && this.root != null) {
@@ -133,7 +138,7 @@ public class JSONInterceptor extends AbstractInterceptor {
             Object result;
             if (this.enableSMD) {
                 // load JSON object
-                Object obj = JSONUtil.deserialize(request.getReader());
+                Object obj = readJSON(request);
 
                 if (obj instanceof Map) {
                     Map smd = (Map) obj;
@@ -185,6 +190,19 @@ public class JSONInterceptor extends AbstractInterceptor {
         return invocation.invoke();
     }
 
+    /**
+     * Parses the request body directly from its reader, enforcing the configured limits while reading
+     *
+     * @param request current request
+     * @return parsed JSON value
+     * @throws JSONException when the body is not well formed or exceeds the limits
+     * @throws IOException when the body cannot be read
+     * @since 7.1.0
+     */
+    protected Object readJSON(HttpServletRequest request) throws JSONException, IOException {
+        return new JSONReader(maxLength, maxDepth, maxElements, maxStringLength).read(request.getReader());
+    }
+
     protected String readContentType(HttpServletRequest request) {
         String contentType = request.getHeader("Content-Type");
         LOG.debug("Content Type from request: {}", contentType);
@@ -561,6 +579,38 @@ public class JSONInterceptor extends AbstractInterceptor {
         this.jsonContentType = jsonContentType;
     }
 
+    /**
+     * @param maxLength maximum number of characters of the request body, -1 (default) means no limit
+     * @since 7.1.0
+     */
+    public void setMaxLength(long maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @param maxDepth maximum nesting depth of objects and arrays, -1 (default) means no limit
+     * @since 7.1.0
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @param maxElements maximum number of elements of a single object or array, -1 (default) means no limit
+     * @since 7.1.0
+     */
+    public void setMaxElements(int maxElements) {
+        this.maxElements = maxElements;
+    }
+
+    /**
+     * @param maxStringLength maximum length of a single string or key, -1 (default) means no limit
+     * @since 7.1.0
+     */
+    public void setMaxStringLength(int maxStringLength) {
+        this.maxStringLength = maxStringLength;
+    }
+
     public void setJsonRpcContentType(String jsonRpcContentType) {
         this.jsonRpcContentType = jsonRpcContentType;
     }
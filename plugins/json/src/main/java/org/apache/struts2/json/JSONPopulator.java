@@ -33,6 +33,8 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Isolate the process of populating JSON objects from the Interceptor class
@@ -42,6 +44,8 @@ public class JSONPopulator {
 
     private static final Logger LOG = LogManager.getLogger(JSONPopulator.class);
 
+    private static final ConcurrentMap<Class<?>, Setter[]> SETTERS_CACHE = new ConcurrentHashMap<>();
+
     private String dateFormat = JSONUtil.RFC3339_FORMAT;
 
     public JSONPopulator() {
@@ -65,36 +69,49 @@ public class JSONPopulator {
             IllegalArgumentException, JSONException, InstantiationException {
         Class clazz = object.getClass();
 
-        BeanInfo info = Introspector.getBeanInfo(clazz);
-        PropertyDescriptor[] props = info.getPropertyDescriptors();
-
         // iterate over class fields
-        for (PropertyDescriptor prop : props) {
-            String name = prop.getName();
+        for (Setter setter : getSetters(clazz)) {
+            if (elements.containsKey(setter.name)) {
+                Object value = elements.get(setter.name);
+                Object convertedValue = this.convert(setter.paramType, setter.genericType, value, setter.method);
+                setter.method.invoke(object, new Object[] { convertedValue });
+            }
+        }
+    }
 
-            if (elements.containsKey(name)) {
-                Object value = elements.get(name);
-                Method method = prop.getWriteMethod();
+    /**
+     * Public single argument setters of the class which accept deserialization, resolved once per class
+     */
+    private static Setter[] getSetters(Class<?> clazz) throws IntrospectionException {
+        Setter[] setters = SETTERS_CACHE.get(clazz);
+        if (setters != null) {
+            return setters;
+        }
 
-                if (method != null) {
-                    JSON json = method.getAnnotation(JSON.class);
-                    if ((json != null) && !json.deserialize()) {
-                        continue;
-                    }
+        BeanInfo info = Introspector.getBeanInfo(clazz);
+        List<Setter> found = new ArrayList<>();
+        for (PropertyDescriptor prop : info.getPropertyDescriptors()) {
+            Method method = prop.getWriteMethod();
 
-                    // use only public setters
-                    if (Modifier.isPublic(method.getModifiers())) {
-                        Class[] paramTypes = method.getParameterTypes();
-                        Type[] genericTypes = method.getGenericParameterTypes();
+            if (method != null) {
+                JSON json = method.getAnnotation(JSON.class);
+                if ((json != null) && !json.deserialize()) {
+                    continue;
+                }
 
-                        if (paramTypes.length == 1) {
-                            Object convertedValue = this.convert(paramTypes[0], genericTypes[0], value, method);
-                            method.invoke(object, new Object[] { convertedValue });
-                        }
-                    }
+                // use only public setters
+                if (Modifier.isPublic(method.getModifiers()) && method.getParameterCount() == 1) {
+                    found.add(new Setter(prop.getName(), method, method.getParameterTypes()[0],
+                            method.getGenericParameterTypes()[0]));
                 }
             }
         }
+        setters = found.toArray(new Setter[0]);
+        SETTERS_CACHE.putIfAbsent(clazz, setters);
+        return setters;
+    }
+
+    private record Setter(String name, Method method, Class<?> paramType, Type genericType) {
     }
 
     @SuppressWarnings("unchecked")
@@ -18,6 +18,9 @@
  */
 package org.apache.struts2.json;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
 import java.util.ArrayList;
@@ -29,6 +32,12 @@ import java.util.Map;
  * <p>
  * Deserializes and object from a JSON string
  * </p>
+ *
+ * <p>
+ * The input can be read directly from a {@link Reader}, in such case limits of the length of the input,
+ * nesting depth, elements per object or array and length of strings are checked while parsing,
+ * a negative limit means no limit.
+ * </p>
  */
 public class JSONReader {
     private static final Object OBJECT_END = new Object();
@@ -48,11 +57,35 @@ public class JSONReader {
         escapes.put('t', '\t');
     }
 
-    private CharacterIterator it;
+    private CharSource it;
     private char c;
     private Object token;
     private StringBuilder buf = new StringBuilder();
 
+    private final long maxLength;
+    private final int maxDepth;
+    private final int maxElements;
+    private final int maxStringLength;
+    private int depth;
+
+    public JSONReader() {
+        this(-1, -1, -1, -1);
+    }
+
+    /**
+     * @param maxLength maximum number of characters of the input
+     * @param maxDepth maximum nesting depth of objects and arrays
+     * @param maxElements maximum number of elements of a single object or array
+     * @param maxStringLength maximum length of a string or key
+     * @since 7.1.0
+     */
+    public JSONReader(long maxLength, int maxDepth, int maxElements, int maxStringLength) {
+        this.maxLength = maxLength;
+        this.maxDepth = maxDepth;
+        this.maxElements = maxElements;
+        this.maxStringLength = maxStringLength;
+    }
+
     protected char next() {
         this.c = this.it.next();
 
@@ -66,10 +99,57 @@ public class JSONReader {
     }
 
     public Object read(String string) throws JSONException {
-        this.it = new StringCharacterIterator(string);
+        if (maxLength >= 0 && string.length() > maxLength) {
+            throw new JSONException("JSON input exceeds the maximum length of " + maxLength + " characters");
+        }
+        this.it = new StringCharSource(string);
         this.c = this.it.first();
 
-        return this.read();
+        return this.readChecked();
+    }
+
+    /**
+     * Reads an object directly from the reader, without reading the whole input into a string first.
+     *
+     * @param reader reader of the JSON input, it isn't closed
+     * @return deserialized object
+     * @throws JSONException when the input is not well formed, exceeds the limits or cannot be read
+     * @since 7.1.0
+     */
+    public Object read(Reader reader) throws JSONException {
+        this.it = new ReaderCharSource(reader, maxLength);
+        try {
+            this.c = this.it.first();
+        } catch (UncheckedIOException e) {
+            throw new JSONException(e.getCause());
+        } catch (LimitExceededException e) {
+            throw new JSONException(e.getMessage());
+        }
+
+        return this.readChecked();
+    }
+
+    private Object readChecked() throws JSONException {
+        this.depth = 0;
+        try {
+            return this.read();
+        } catch (UncheckedIOException e) {
+            throw new JSONException(e.getCause());
+        } catch (LimitExceededException e) {
+            throw new JSONException(e.getMessage());
+        }
+    }
+
+    private void enter() {
+        if (maxDepth >= 0 && ++this.depth > maxDepth) {
+            throw new LimitExceededException("JSON input exceeds the maximum depth of " + maxDepth);
+        }
+    }
+
+    private void checkElements(int elements) {
+        if (maxElements >= 0 && elements > maxElements) {
+            throw new LimitExceededException("JSON object or array exceeds the maximum of " + maxElements + " elements");
+        }
     }
 
     protected Object read() throws JSONException {
@@ -124,6 +204,7 @@ public class JSONReader {
 
     @SuppressWarnings("unchecked")
     protected Map object() throws JSONException {
+        this.enter();
         Map ret = new HashMap();
         Object next = this.read();
         if (next != OBJECT_END) {
@@ -133,6 +214,7 @@ public class JSONReader {
 
                 if (this.token != OBJECT_END) {
                     ret.put(key, this.read());
+                    this.checkElements(ret.size());
 
                     if (this.read() == COMMA) {
                         Object name = this.read();
@@ -146,6 +228,7 @@ public class JSONReader {
             }
         }
 
+        this.depth--;
         return ret;
     }
 
@@ -156,11 +239,13 @@ public class JSONReader {
     
     @SuppressWarnings("unchecked")
     protected List array() throws JSONException {
+        this.enter();
         List ret = new ArrayList();
         Object value = this.read();
 
         while (this.token != ARRAY_END) {
             ret.add(value);
+            this.checkElements(ret.size());
 
             Object read = this.read();
             if (read == COMMA) {
@@ -170,6 +255,7 @@ public class JSONReader {
             }
         }
 
+        this.depth--;
         return ret;
     }
 
@@ -234,6 +320,9 @@ public class JSONReader {
             } else {
                 this.add();
             }
+            if (maxStringLength >= 0 && this.buf.length() > maxStringLength) {
+                throw new LimitExceededException("JSON string exceeds the maximum length of " + maxStringLength);
+            }
         }
 
         this.next();
@@ -299,4 +388,88 @@ public class JSONReader {
 
         return (char) value;
     }
+
+    private static final class LimitExceededException extends RuntimeException {
+        LimitExceededException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Forward only source of the parsed characters, returns {@link CharacterIterator#DONE} at the end of the input
+     */
+    private interface CharSource {
+        char first();
+
+        char next();
+    }
+
+    private static final class StringCharSource implements CharSource {
+
+        private final CharacterIterator it;
+
+        StringCharSource(String string) {
+            this.it = new StringCharacterIterator(string);
+        }
+
+        @Override
+        public char first() {
+            return it.first();
+        }
+
+        @Override
+        public char next() {
+            return it.next();
+        }
+    }
+
+    private static final class ReaderCharSource implements CharSource {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Reader reader;
+        private final long maxLength;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private long consumed;
+
+        ReaderCharSource(Reader reader, long maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public char first() {
+            return next();
+        }
+
+        @Override
+        public char next() {
+            if (position == limit && !fill()) {
+                return CharacterIterator.DONE;
+            }
+            if (maxLength >= 0 && ++consumed > maxLength) {
+                throw new LimitExceededException("JSON input exceeds the maximum length of " + maxLength + " characters");
+            }
+            return buffer[position++];
+        }
+
+        private boolean fill() {
+            try {
+                int read;
+                do {
+                    read = reader.read(buffer, 0, buffer.length);
+                } while (read == 0);
+                if (read < 0) {
+                    return false;
+                }
+                position = 0;
+                limit = read;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -54,6 +54,9 @@ import java.util.regex.Pattern;
  * to be excluded. The regular expressions are evaluated against the OGNL
  * expression representation of the properties. </li>
  *
+ * <li>streaming - serialize directly into the response instead of building
+ * the whole JSON document in memory first (default false). </li>
+ *
  * </ul>
  * <!-- END SNIPPET: parameters -->
  * <p><b>Example:</b></p>
@@ -98,6 +101,7 @@ public class JSONResult implements Result {
     private String wrapPrefix;
     private String wrapSuffix;
     private boolean devMode = false;
+    private boolean streaming = false;
     private JSONUtil jsonUtil;
 
     @Inject(StrutsConstants.STRUTS_I18N_ENCODING)
@@ -199,7 +203,11 @@ public class JSONResult implements Result {
         try {
             Object rootObject;
             rootObject = readRootObject(invocation);
-            writeToResponse(response, createJSONString(request, rootObject), enableGzip(request));
+            if (streaming) {
+                streamToResponse(request, response, rootObject, enableGzip(request));
+            } else {
+                writeToResponse(response, createJSONString(request, rootObject), enableGzip(request));
+            }
         } catch (IOException exception) {
             LOG.error(exception.getMessage(), exception);
             throw exception;
@@ -250,6 +258,29 @@ public class JSONResult implements Result {
             wrapSuffix));
     }
 
+    /**
+     * Serializes the root object directly into the response without building the JSON document in memory first
+     *
+     * @since 7.1.0
+     */
+    protected void streamToResponse(HttpServletRequest request, HttpServletResponse response, Object rootObject,
+                                    boolean gzip) throws IOException, JSONException {
+        String callbackName = findCallbackName(request);
+        JSONUtil.writeJSONToResponse(new SerializationParams(response, getEncoding(), isWrapWithComments(),
+            null, false, gzip, noCache, statusCode, errorCode, prefix, contentType, wrapPrefix,
+            wrapSuffix), writer -> {
+            if (callbackName != null) {
+                writer.write(callbackName);
+                writer.write('(');
+            }
+            jsonUtil.serialize(writer, rootObject, excludeProperties, includeProperties, ignoreHierarchy,
+                enumAsBean, excludeNullProperties, defaultDateFormat, cacheBeanInfo);
+            if (callbackName != null) {
+                writer.write(')');
+            }
+        });
+    }
+
     protected org.apache.struts2.json.smd.SMD buildSMDObject(ActionInvocation invocation) {
         return new SMDGenerator(findRootObject(invocation), excludeProperties, ignoreInterfaces).generate(invocation);
     }
@@ -279,13 +310,21 @@ public class JSONResult implements Result {
     }
 
     protected String addCallbackIfApplicable(HttpServletRequest request, String json) {
+        String callbackName = findCallbackName(request);
+        if (callbackName != null) {
+            json = callbackName + "(" + json + ")";
+        }
+        return json;
+    }
+
+    private String findCallbackName(HttpServletRequest request) {
         if ((callbackParameter != null) && (callbackParameter.length() > 0)) {
             String callbackName = request.getParameter(callbackParameter);
             if (StringUtils.isNotEmpty(callbackName)) {
-                json = callbackName + "(" + json + ")";
+                return callbackName;
             }
         }
-        return json;
+        return null;
     }
 
     /**
@@ -368,6 +407,20 @@ public class JSONResult implements Result {
         this.enableGZIP = enableGZIP;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * @param streaming Serialize the result directly into the response instead of building the whole JSON
+     *                  document in memory, the response is sent chunked through its output stream and an error
+     *                  during serialization leaves a truncated document (default false)
+     * @since 7.1.0
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public boolean isNoCache() {
         return noCache;
     }
@@ -18,10 +18,10 @@
  */
 package org.apache.struts2.json;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Writer;
@@ -231,7 +231,8 @@ public class JSONUtil {
      * @throws JSONException in case of error during serialize
      */
     public void serialize(Writer writer, Object object, boolean cacheBeanInfo) throws IOException, JSONException {
-        writer.write(serialize(object, cacheBeanInfo));
+        this.writer.setCacheBeanInfo(cacheBeanInfo);
+        this.writer.write(object, null, null, false, writer);
     }
 
     /**
@@ -281,7 +282,46 @@ public class JSONUtil {
     public void serialize(Writer writer, Object object, Collection<Pattern> excludeProperties,
             Collection<Pattern> includeProperties, boolean excludeNullProperties, boolean cacheBeanInfo)
             throws IOException, JSONException {
-        writer.write(serialize(object, excludeProperties, includeProperties, true, excludeNullProperties, cacheBeanInfo));
+        serialize(writer, object, excludeProperties, includeProperties, true, JSONWriter.ENUM_AS_BEAN_DEFAULT,
+                excludeNullProperties, null, cacheBeanInfo);
+    }
+
+    /**
+     * Serializes an object into JSON directly to the given writer, excluding any
+     * properties matching any of the regular expressions in the given collection.
+     *
+     * @param writer
+     *            Writer to serialize the object to
+     * @param object
+     *            object to be serialized
+     * @param excludeProperties
+     *            Patterns matching properties to exclude
+     * @param includeProperties
+     *            Patterns matching properties to include
+     * @param ignoreHierarchy
+     *            whether to ignore properties defined on base classes of the
+     *            root object
+     * @param enumAsBean
+     *            whether to serialized enums a Bean or name=value pair
+     * @param excludeNullProperties
+     *            enable/disable excluding of null properties
+     * @param defaultDateFormat
+     *            date format used to serialize dates
+     * @param cacheBeanInfo
+     * 			  Specifies whether to cache bean info in the JSONWriter
+     * @throws IOException  in case of IO errors
+     * @throws JSONException in case of error during serialize
+     * @since 7.1.0
+     */
+    public void serialize(Writer writer, Object object, Collection<Pattern> excludeProperties,
+                          Collection<Pattern> includeProperties, boolean ignoreHierarchy, boolean enumAsBean,
+                          boolean excludeNullProperties, String defaultDateFormat, boolean cacheBeanInfo)
+            throws IOException, JSONException {
+        this.writer.setIgnoreHierarchy(ignoreHierarchy);
+        this.writer.setEnumAsBean(enumAsBean);
+        this.writer.setDateFormatter(defaultDateFormat);
+        this.writer.setCacheBeanInfo(cacheBeanInfo);
+        this.writer.write(object, excludeProperties, includeProperties, excludeNullProperties, writer);
     }
 
     /**
@@ -307,42 +347,106 @@ public class JSONUtil {
      *             when IOException happens
      */
     public static Object deserialize(Reader reader) throws JSONException {
-        // read content
-        BufferedReader bufferReader = new BufferedReader(reader);
-        String line;
-        StringBuilder buffer = new StringBuilder();
-
-        try {
-            while ((line = bufferReader.readLine()) != null) {
-                buffer.append(line);
-            }
-        } catch (IOException e) {
-            throw new JSONException(e);
-        }
-
-        return deserialize(buffer.toString());
+        return new JSONReader().read(reader);
     }
 
     public static void writeJSONToResponse(SerializationParams serializationParams) throws IOException {
         StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(getWrapPrefix(serializationParams));
         if (StringUtils.isNotBlank(serializationParams.getSerializedJSON()))
             stringBuilder.append(serializationParams.getSerializedJSON());
-
-        if (StringUtils.isNotBlank(serializationParams.getWrapPrefix()))
-            stringBuilder.insert(0, serializationParams.getWrapPrefix());
-        else if (serializationParams.isWrapWithComments()) {
-            stringBuilder.insert(0, "/* ");
-            stringBuilder.append(" */");
-        } else if (serializationParams.isPrefix())
-            stringBuilder.insert(0, "{}&& ");
-
-        if (StringUtils.isNotBlank(serializationParams.getWrapSuffix()))
-            stringBuilder.append(serializationParams.getWrapSuffix());
+        stringBuilder.append(getWrapSuffix(serializationParams));
 
         String json = stringBuilder.toString();
 
         LOG.debug("[JSON] {}", json);
 
+        HttpServletResponse response = serializationParams.getResponse();
+        prepareResponse(serializationParams);
+
+        byte[] bytes = json.getBytes(serializationParams.getEncoding());
+        if (serializationParams.isGzip()) {
+            response.addHeader("Content-Encoding", "gzip");
+            try (GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream())) {
+                out.write(bytes);
+            }
+        } else {
+            response.setContentLength(bytes.length);
+            PrintWriter out = response.getWriter();
+            out.print(json);
+        }
+    }
+
+    /**
+     * Writes the JSON produced by the serializer directly into the response, wrapped the same way
+     * as {@link #writeJSONToResponse(SerializationParams)} does. The document is encoded as it is produced
+     * through a bounded buffer and sent chunked as its length isn't known upfront,
+     * {@link SerializationParams#getSerializedJSON()} is ignored.
+     *
+     * @param serializationParams params of the response
+     * @param serializer writes the JSON document
+     * @throws IOException in case of IO errors
+     * @throws JSONException in case of error during serialize, part of the document may have been sent already
+     * @since 7.1.0
+     */
+    public static void writeJSONToResponse(SerializationParams serializationParams, StreamSerializer serializer)
+            throws IOException, JSONException {
+        HttpServletResponse response = serializationParams.getResponse();
+        prepareResponse(serializationParams);
+
+        OutputStream out = response.getOutputStream();
+        GZIPOutputStream gzip = null;
+        if (serializationParams.isGzip()) {
+            response.addHeader("Content-Encoding", "gzip");
+            gzip = new GZIPOutputStream(out, STREAM_BUFFER_SIZE);
+            out = gzip;
+        }
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, serializationParams.getEncoding()), STREAM_BUFFER_SIZE);
+        writer.write(getWrapPrefix(serializationParams));
+        serializer.serialize(writer);
+        writer.write(getWrapSuffix(serializationParams));
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+        out.flush();
+
+        LOG.debug("[JSON] streamed to response");
+    }
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    /**
+     * Writes a JSON document to a writer, used to stream it into the response.
+     *
+     * @since 7.1.0
+     */
+    @FunctionalInterface
+    public interface StreamSerializer {
+        void serialize(Writer writer) throws IOException, JSONException;
+    }
+
+    private static String getWrapPrefix(SerializationParams serializationParams) {
+        if (StringUtils.isNotBlank(serializationParams.getWrapPrefix()))
+            return serializationParams.getWrapPrefix();
+        else if (serializationParams.isWrapWithComments())
+            return "/* ";
+        else if (serializationParams.isPrefix())
+            return "{}&& ";
+        return "";
+    }
+
+    private static String getWrapSuffix(SerializationParams serializationParams) {
+        String suffix = "";
+        if (StringUtils.isBlank(serializationParams.getWrapPrefix()) && serializationParams.isWrapWithComments())
+            suffix = " */";
+        if (StringUtils.isNotBlank(serializationParams.getWrapSuffix()))
+            suffix += serializationParams.getWrapSuffix();
+        return suffix;
+    }
+
+    private static void prepareResponse(SerializationParams serializationParams) throws IOException {
         HttpServletResponse response = serializationParams.getResponse();
 
         // status or error code
@@ -360,33 +464,6 @@ public class JSONUtil {
             response.setHeader("Expires", "0");
             response.setHeader("Pragma", "No-cache");
         }
-
-        if (serializationParams.isGzip()) {
-            response.addHeader("Content-Encoding", "gzip");
-            GZIPOutputStream out = null;
-            InputStream in = null;
-            try {
-                out = new GZIPOutputStream(response.getOutputStream());
-                in = new ByteArrayInputStream(json.getBytes(serializationParams.getEncoding()));
-                byte[] buf = new byte[1024];
-                int len;
-                while ((len = in.read(buf)) > 0) {
-                    out.write(buf, 0, len);
-                }
-            } finally {
-                if (in != null)
-                    in.close();
-                if (out != null) {
-                    out.finish();
-                    out.close();
-                }
-            }
-
-        } else {
-            response.setContentLength(json.getBytes(serializationParams.getEncoding()).length);
-            PrintWriter out = response.getWriter();
-            out.print(json);
-        }
     }
 
     public static Set<String> asSet(String commaDelim) {
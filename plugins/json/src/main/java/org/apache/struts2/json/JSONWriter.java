@@ -18,6 +18,8 @@
  */
 package org.apache.struts2.json;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.regex.Pattern;
 
@@ -35,6 +37,24 @@ public interface JSONWriter {
     String write(Object object, Collection<Pattern> excludeProperties,
                  Collection<Pattern> includeProperties, boolean excludeNullProperties) throws JSONException;
 
+    /**
+     * Serializes the object directly into the given writer instead of building the whole document in memory,
+     * implementations which cannot stream fall back to writing the serialized String.
+     *
+     * @param object object to be serialized
+     * @param excludeProperties patterns matching properties to ignore
+     * @param includeProperties patterns matching properties to include
+     * @param excludeNullProperties enable/disable excluding of null properties
+     * @param out writer to serialize the object to
+     * @throws JSONException in case of error during serialize
+     * @throws IOException in case of IO errors
+     * @since 7.1.0
+     */
+    default void write(Object object, Collection<Pattern> excludeProperties, Collection<Pattern> includeProperties,
+                       boolean excludeNullProperties, Writer out) throws JSONException, IOException {
+        out.write(write(object, excludeProperties, includeProperties, excludeNullProperties));
+    }
+
     void setIgnoreHierarchy(boolean ignoreHierarchy);
 
     void setEnumAsBean(boolean enumAsBean);
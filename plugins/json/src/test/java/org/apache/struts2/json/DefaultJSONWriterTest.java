@@ -24,6 +24,8 @@ import org.apache.struts2.junit.StrutsTestCase;
 import org.apache.struts2.junit.util.TestUtils;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.net.URL;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -31,6 +33,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.regex.Pattern;
 
 public class DefaultJSONWriterTest extends StrutsTestCase {
     @Test
@@ -134,6 +137,30 @@ public class DefaultJSONWriterTest extends StrutsTestCase {
         TestUtils.assertEquals(DefaultJSONWriter.class.getResource("jsonwriter-write-bean-04.txt"), json);
     }
 
+    @Test
+    public void testSerializationPlansAreReused() throws Exception {
+        BeanWithList bean1 = new BeanWithList();
+        bean1.setStringField("str");
+        bean1.setIntField(10);
+        List<String> errors = new ArrayList<String>();
+        errors.add("first");
+        errors.add("second");
+        bean1.setErrors(errors);
+
+        List<Pattern> includes = List.of(Pattern.compile("stringField"), Pattern.compile("errors(\\[\\d+\\])?"));
+        List<Pattern> excludes = List.of(Pattern.compile("errors\\[1\\]"));
+
+        for (int i = 0; i < 2; i++) {
+            JSONWriter jsonWriter = new DefaultJSONWriter();
+            jsonWriter.setIgnoreHierarchy(false);
+            assertEquals("{\"errors\":[\"first\",\"second\"],\"stringField\":\"str\"}",
+                    jsonWriter.write(bean1, null, includes, false));
+            assertEquals("{\"errors\":[\"first\"],\"stringField\":\"str\"}",
+                    jsonWriter.write(bean1, excludes, includes, false));
+            assertTrue(jsonWriter.write(bean1).contains("\"intField\":10"));
+        }
+    }
+
     private class BeanWithList extends Bean {
         private List<String> errors;
 
@@ -188,4 +215,39 @@ public class DefaultJSONWriterTest extends StrutsTestCase {
         assertEquals("{\"date\":\"12-23-2012\"}", json);
     }
 
+    @Test
+    public void testWriterFailureIsReportedAsIOException() throws Exception {
+        Bean bean1 = new Bean();
+        bean1.setStringField("str");
+        bean1.setIntField(10);
+
+        Writer failing = new Writer() {
+            private int written;
+
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                written += len;
+                if (written > 5) {
+                    throw new IOException("connection reset");
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        JSONWriter jsonWriter = new DefaultJSONWriter();
+        try {
+            jsonWriter.write(bean1, null, null, false, failing);
+            fail("IOException expected");
+        } catch (IOException e) {
+            assertEquals("connection reset", e.getMessage());
+        }
+    }
+
 }
@@ -65,6 +65,22 @@ public class JSONInterceptorTest extends StrutsTestCase {
         tryBadJSON("bad-to-the-bone.txt");
     }
 
+    public void testJSONExceedingLimits() throws Exception {
+        this.request.setContent("{\"foo\": \"a value longer than allowed\"}".getBytes());
+        this.request.addHeader("Content-Type", "application/json");
+
+        JSONInterceptor interceptor = new JSONInterceptor();
+        interceptor.setMaxStringLength(10);
+        this.invocation.setAction(new TestAction());
+
+        try {
+            interceptor.intercept(this.invocation);
+            fail("Should have thrown an exception");
+        } catch (JSONException e) {
+            assertEquals("JSON string exceeds the maximum length of 10", e.getMessage());
+        }
+    }
+
     private void tryBadJSON(String fileName) throws Exception {
         // request
         setRequestContent(fileName);
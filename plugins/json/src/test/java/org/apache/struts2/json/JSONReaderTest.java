@@ -20,8 +20,13 @@ package org.apache.struts2.json;
 
 import org.junit.Test;
 
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
 
 /**
  * User: mcucchiara
@@ -62,4 +67,28 @@ public class JSONReaderTest {
         assertEquals(Long.class, ret.getClass());
         assertEquals(123L, ret);
     }
+
+    @Test
+    public void testReadFromReader() throws Exception {
+        Object ret = reader.read(new StringReader("{\"name\": \"value\",\n \"list\": [1, 2.5, true, null], \"nested\": {\"a\": \"\\u0041\"}}"));
+
+        Map<?, ?> map = (Map<?, ?>) ret;
+        assertEquals("value", map.get("name"));
+        assertEquals(List.of(1L, 2.5, true), ((List<?>) map.get("list")).subList(0, 3));
+        assertEquals("A", ((Map<?, ?>) map.get("nested")).get("a"));
+    }
+
+    @Test
+    public void testLimits() throws Exception {
+        String json = "{\"a\": [[1, 2, 3]], \"b\": \"abcdef\"}";
+
+        assertNotNull(new JSONReader(json.length(), 3, 3, 6).read(new StringReader(json)));
+        assertNotNull(new JSONReader(json.length(), 3, 3, 6).read(json));
+
+        assertThrows(JSONException.class, () -> new JSONReader(json.length() - 1, -1, -1, -1).read(new StringReader(json)));
+        assertThrows(JSONException.class, () -> new JSONReader(json.length() - 1, -1, -1, -1).read(json));
+        assertThrows(JSONException.class, () -> new JSONReader(-1, 2, -1, -1).read(new StringReader(json)));
+        assertThrows(JSONException.class, () -> new JSONReader(-1, -1, 2, -1).read(new StringReader(json)));
+        assertThrows(JSONException.class, () -> new JSONReader(-1, -1, -1, 5).read(new StringReader(json)));
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.struts2.json;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.StrutsStatics;
@@ -31,8 +32,10 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -45,6 +48,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 /**
  * JSONResultTest
@@ -534,6 +538,74 @@ public class JSONResultTest extends StrutsTestCase {
         assertEquals("application/json;charset=UTF-8", response.getContentType());
     }
 
+    public void testStreamingJSONP() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setCallbackParameter("callback");
+        result.setStreaming(true);
+        request.addParameter("callback", "exec");
+
+        executeTest2Action(result);
+        String json = response.getContentAsString();
+
+        String normalizedActual = TestUtils.normalize(json, true);
+        String normalizedExpected = TestUtils.normalize(JSONResultTest.class.getResource("jsonp-1.txt"));
+        assertEquals(normalizedExpected, normalizedActual);
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+        assertEquals(0, response.getContentLength());
+    }
+
+    public void testStreamingSameAsBuffered() throws Exception {
+        JSONResult result = new JSONResult();
+        result.setWrapWithComments(true);
+        result.setWrapSuffix("]");
+        executeTest2Action(result);
+        String buffered = response.getContentAsString();
+
+        response = new MockHttpServletResponse();
+        context.put(StrutsStatics.HTTP_RESPONSE, response);
+        result.setStreaming(true);
+        executeTest2Action(result);
+
+        assertEquals(buffered, response.getContentAsString());
+        assertTrue(buffered.startsWith("/* {"));
+        assertTrue(buffered.endsWith(" */]"));
+    }
+
+    public void testBufferedUsesWriter() throws Exception {
+        response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+        };
+        context.put(StrutsStatics.HTTP_RESPONSE, response);
+
+        JSONResult result = new JSONResult();
+        executeTest2Action(result);
+        String json = response.getContentAsString();
+
+        assertTrue(json.startsWith("{"));
+        assertEquals(json.getBytes(StandardCharsets.UTF_8).length, response.getContentLength());
+    }
+
+    public void testStreamingGzip() throws Exception {
+        JSONResult result = new JSONResult();
+        executeTest2Action(result);
+        String plain = response.getContentAsString();
+
+        response = new MockHttpServletResponse();
+        context.put(StrutsStatics.HTTP_RESPONSE, response);
+        request.addHeader("Accept-Encoding", "gzip");
+        result.setEnableGZIP(true);
+        result.setStreaming(true);
+        executeTest2Action(result);
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(plain, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
     public void testNoCache() throws Exception {
         JSONResult result = new JSONResult();
         result.setNoCache(true);
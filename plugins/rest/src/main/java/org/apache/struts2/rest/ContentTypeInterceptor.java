@@ -24,6 +24,7 @@ import org.apache.struts2.inject.Inject;
 import org.apache.struts2.interceptor.AbstractInterceptor;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.rest.handler.ContentTypeHandler;
+import org.apache.struts2.rest.handler.StreamingContentTypeHandler;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.InputStream;
@@ -53,8 +54,12 @@ public class ContentTypeInterceptor extends AbstractInterceptor {
         if (request.getContentLength() > 0) {
             final String encoding = request.getCharacterEncoding();
             InputStream is = request.getInputStream();
-            InputStreamReader reader = encoding == null ? new InputStreamReader(is) : new InputStreamReader(is, encoding);
-            handler.toObject(invocation, reader, target);
+            if (handler instanceof StreamingContentTypeHandler streamingHandler) {
+                streamingHandler.toObject(invocation, is, encoding, target);
+            } else {
+                InputStreamReader reader = encoding == null ? new InputStreamReader(is) : new InputStreamReader(is, encoding);
+                handler.toObject(invocation, reader, target);
+            }
         }
         return invocation.invoke();
     }
@@ -28,9 +28,16 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.rest.handler.ContentTypeHandler;
+import org.apache.struts2.rest.handler.StreamingContentTypeHandler;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -48,13 +55,30 @@ public class DefaultContentTypeHandlerManager implements ContentTypeHandlerManag
     /** ContentTypeHandlers keyed by the content-type */
     Map<String, ContentTypeHandler> handlersByContentType = new HashMap<String, ContentTypeHandler>();
 
+    /** Default size of the response buffered to set the Content-Length header */
+    public static final int DEFAULT_CONTENT_LENGTH_THRESHOLD = 64 * 1024;
+
     private String defaultExtension;
+    private int contentLengthThreshold = DEFAULT_CONTENT_LENGTH_THRESHOLD;
 
     @Inject(RestConstants.REST_DEFAULT_EXTENSION)
     public void setDefaultExtension(String name) {
         this.defaultExtension = name;
     }
 
+    /**
+     * Responses produced by a {@link StreamingContentTypeHandler} are buffered up to this size to set
+     * the Content-Length header, bigger responses are streamed chunked. A negative value always buffers
+     * the whole response.
+     *
+     * @param contentLengthThreshold max number of bytes buffered to compute the Content-Length
+     * @since 7.1.0
+     */
+    @Inject(value = RestConstants.REST_CONTENT_LENGTH_THRESHOLD, required = false)
+    public void setContentLengthThreshold(String contentLengthThreshold) {
+        this.contentLengthThreshold = Integer.parseInt(contentLengthThreshold);
+    }
+
     @Inject
     public void setContainer(Container container) {
         Set<String> names = container.getInstanceNames(ContentTypeHandler.class);
@@ -183,22 +207,127 @@ public class DefaultContentTypeHandlerManager implements ContentTypeHandlerManag
             String extCode = resultCode + "." + handler.getExtension();
             if (actionConfig.getResults().get(extCode) != null) {
                 resultCode = extCode;
+            } else if (statusCode != null && statusCode == HttpServletResponse.SC_NOT_MODIFIED) {
+                LOG.debug("Skipping serialization of the result as the response is not modified");
             } else {
-                StringWriter writer = new StringWriter();
-                resultCode = handler.fromObject(invocation, target, resultCode, writer);
-                String text = writer.toString();
-                if (text.length() > 0) {
-                    byte[] data = text.getBytes("UTF-8");
-                    res.setContentLength(data.length);
-                    res.setContentType(handler.getContentType());
-                    res.getOutputStream().write(data);
-                    res.getOutputStream().flush();
+                MessageDigest digest = null;
+                if (methodResult instanceof HttpHeaders headers && headers.isDigestETag()
+                        && (statusCode == null || statusCode == HttpServletResponse.SC_OK)) {
+                    digest = createDigest();
                 }
+                ResponseOutputStream out = new ResponseOutputStream(res, handler.getContentType(),
+                        digest == null ? contentLengthThreshold : -1, digest);
+                if (handler instanceof StreamingContentTypeHandler streamingHandler) {
+                    resultCode = streamingHandler.fromObject(invocation, target, resultCode, out);
+                } else {
+                    StringWriter writer = new StringWriter();
+                    resultCode = handler.fromObject(invocation, target, resultCode, writer);
+                    out.write(writer.toString().getBytes(StandardCharsets.UTF_8));
+                }
+                out.finish(req);
             }
         }
         return resultCode;
     }
 
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Buffers the response up to the threshold, so small responses get the Content-Length header
+     * and nothing is written when no content was produced; past the threshold the buffer is flushed
+     * and the rest of the content is streamed directly to the response. When a digest is given the
+     * whole response is buffered and digested as it is written to compute its strong ETag.
+     */
+    private static class ResponseOutputStream extends OutputStream {
+
+        private final HttpServletResponse response;
+        private final String contentType;
+        private final int threshold;
+        private final MessageDigest digest;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+        private OutputStream target;
+
+        ResponseOutputStream(HttpServletResponse response, String contentType, int threshold, MessageDigest digest) {
+            this.response = response;
+            this.contentType = contentType;
+            this.threshold = threshold;
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (target == null && threshold >= 0 && buffer.size() + 1 > threshold) {
+                startStreaming();
+            }
+            if (target != null) {
+                target.write(b);
+            } else {
+                buffer.write(b);
+                if (digest != null) {
+                    digest.update((byte) b);
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null && threshold >= 0 && buffer.size() + len > threshold) {
+                startStreaming();
+            }
+            if (target != null) {
+                target.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+                if (digest != null) {
+                    digest.update(b, off, len);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+            // handlers may close the stream, the response is completed by finish()
+        }
+
+        private void startStreaming() throws IOException {
+            response.setContentType(contentType);
+            target = response.getOutputStream();
+            buffer.writeTo(target);
+            buffer = null;
+        }
+
+        void finish(HttpServletRequest request) throws IOException {
+            if (target == null) {
+                if (buffer.size() == 0) {
+                    return;
+                }
+                if (digest != null) {
+                    String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+                    response.setHeader("ETag", etag);
+                    if (DefaultHttpHeaders.matchesETag(request.getHeader("If-None-Match"), etag)) {
+                        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                        return;
+                    }
+                }
+                response.setContentLength(buffer.size());
+                startStreaming();
+            }
+            target.flush();
+        }
+    }
 
     protected Integer readStatusCode(Object methodResult) {
         if (methodResult instanceof HttpHeaders) {
@@ -38,6 +38,7 @@ public class DefaultHttpHeaders implements HttpHeaders {
     private String location;
     private boolean disableCaching;
     private boolean noETag = false;
+    private boolean digestETag = false;
     private Date lastModified;
 
     public DefaultHttpHeaders() {
@@ -67,6 +68,19 @@ public class DefaultHttpHeaders implements HttpHeaders {
         return this;
     }
 
+    /**
+     * Computes a strong ETag from a digest of the serialized response, the content handler
+     * answers with 304 Not Modified when it matches the If-None-Match header of the request.
+     * Responses are fully buffered to compute the digest.
+     *
+     * @return this
+     * @since 7.1.0
+     */
+    public DefaultHttpHeaders withDigestETag() {
+        this.digestETag = true;
+        return this;
+    }
+
     public DefaultHttpHeaders setLocationId(Object id) {
         this.locationId = id;
         return this;
@@ -98,7 +112,7 @@ public class DefaultHttpHeaders implements HttpHeaders {
         if (lastModified != null) {
             response.setDateHeader("Last-Modified", lastModified.getTime());
         }
-        if (etag == null && !noETag && target != null) {
+        if (etag == null && !noETag && !digestETag && target != null) {
             etag = String.valueOf(target.hashCode());
         }
         if (etag != null) {
@@ -126,9 +140,7 @@ public class DefaultHttpHeaders implements HttpHeaders {
             boolean lastModifiedNotChanged = false;
             String reqETag = request.getHeader("If-None-Match");
             if (etag != null) {
-                if (etag.equals(reqETag)) {
-                    etagNotChanged = true;
-                }
+                etagNotChanged = matchesETag(reqETag, etag.toString());
             }
 
             String headerIfModifiedSince = request.getHeader("If-Modified-Since");
@@ -147,6 +159,41 @@ public class DefaultHttpHeaders implements HttpHeaders {
         return resultCode;
     }
 
+    /**
+     * Weak comparison of the ETag with the If-None-Match header, which can list several ETags or be "*"
+     *
+     * @param ifNoneMatch value of the If-None-Match header, can be null
+     * @param etag        the current ETag
+     * @return true if any of the listed ETags matches
+     */
+    static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String current = opaqueTag(etag);
+        int start = 0;
+        while (start < ifNoneMatch.length()) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end == -1) {
+                end = ifNoneMatch.length();
+            }
+            String candidate = ifNoneMatch.substring(start, end).trim();
+            if ("*".equals(candidate) || (!candidate.isEmpty() && opaqueTag(candidate).equals(current))) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        String tag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        if (tag.length() > 1 && tag.charAt(0) == '"' && tag.charAt(tag.length() - 1) == '"') {
+            return tag.substring(1, tag.length() - 1);
+        }
+        return tag;
+    }
+
     private boolean compareIfModifiedSince(String headerIfModifiedSince) {
         Date requestLastModified = RequestUtils.parseIfModifiedSince(headerIfModifiedSince);
         return requestLastModified != null && lastModified.compareTo(requestLastModified) >= 0;
@@ -164,4 +211,9 @@ public class DefaultHttpHeaders implements HttpHeaders {
         return resultCode;
     }
 
+    @Override
+    public boolean isDigestETag() {
+        return digestETag;
+    }
+
 }
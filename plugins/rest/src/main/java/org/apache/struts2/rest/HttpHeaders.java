@@ -51,4 +51,12 @@ public interface HttpHeaders {
      */
     String getResultCode();
 
+    /**
+     * @return true if a strong ETag should be computed from the serialized response instead
+     * @since 7.1.0
+     */
+    default boolean isDigestETag() {
+        return false;
+    }
+
 }
\ No newline at end of file
@@ -26,13 +26,16 @@ import org.apache.struts2.inject.Inject;
 import org.apache.struts2.StrutsConstants;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 
 /**
  * Handles JSON content using jackson-lib
  */
-public class JacksonJsonHandler implements ContentTypeHandler {
+public class JacksonJsonHandler implements StreamingContentTypeHandler {
 
     private static final String DEFAULT_CONTENT_TYPE = "application/json";
     private String defaultEncoding = "ISO-8859-1";
@@ -52,6 +55,24 @@ public class JacksonJsonHandler implements ContentTypeHandler {
         return null;
     }
 
+    @Override
+    public void toObject(ActionInvocation invocation, InputStream in, String encoding, Object target) throws IOException {
+        if (!StreamingContentTypeHandler.isUnicodeDetectable(encoding)) {
+            toObject(invocation, new InputStreamReader(in, encoding), target);
+            return;
+        }
+        mapper.configure(SerializationFeature.WRITE_NULL_MAP_VALUES, false);
+        ObjectReader or = mapper.readerForUpdating(target);
+        or.readValue(in);
+    }
+
+    @Override
+    public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream out) throws IOException {
+        mapper.configure(SerializationFeature.WRITE_NULL_MAP_VALUES, false);
+        mapper.writeValue(out, obj);
+        return null;
+    }
+
     @Override
     public String getContentType() {
         return DEFAULT_CONTENT_TYPE + ";charset=" + this.defaultEncoding;
@@ -25,13 +25,16 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 
 /**
  * Handles XML content using Jackson
  */
-public class JacksonXmlHandler implements ContentTypeHandler {
+public class JacksonXmlHandler implements StreamingContentTypeHandler {
 
     private static final Logger LOG = LogManager.getLogger(JacksonXmlHandler.class);
 
@@ -52,6 +55,24 @@ public class JacksonXmlHandler implements ContentTypeHandler {
         return null;
     }
 
+    @Override
+    public void toObject(ActionInvocation invocation, InputStream in, String encoding, Object target) throws IOException {
+        if (!StreamingContentTypeHandler.isUnicodeDetectable(encoding)) {
+            toObject(invocation, new InputStreamReader(in, encoding), target);
+            return;
+        }
+        LOG.debug("Converting input stream into an object of: {}", target.getClass().getName());
+        ObjectReader or = mapper.readerForUpdating(target);
+        or.readValue(in);
+    }
+
+    @Override
+    public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream out) throws IOException {
+        LOG.debug("Converting an object of {} into stream", obj.getClass().getName());
+        mapper.writeValue(out, obj);
+        return null;
+    }
+
     @Override
     public String getContentType() {
         return DEFAULT_CONTENT_TYPE;
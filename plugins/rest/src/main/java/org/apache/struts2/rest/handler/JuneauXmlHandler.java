@@ -29,6 +29,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.InvocationTargetException;
@@ -37,7 +40,7 @@ import java.lang.reflect.InvocationTargetException;
  * Handles XML content using Apache Juneau
  * http://juneau.apache.org/#marshall.html
  */
-public class JuneauXmlHandler implements ContentTypeHandler {
+public class JuneauXmlHandler implements StreamingContentTypeHandler {
 
     private static final Logger LOG = LogManager.getLogger(JuneauXmlHandler.class);
 
@@ -57,15 +60,40 @@ public class JuneauXmlHandler implements ContentTypeHandler {
         }
     }
 
+    @Override
+    public void toObject(ActionInvocation invocation, InputStream in, String encoding, Object target) throws IOException {
+        if (!StreamingContentTypeHandler.isUnicodeDetectable(encoding)) {
+            toObject(invocation, new InputStreamReader(in, encoding), target);
+            return;
+        }
+        LOG.debug("Converting input stream into an object of: {}", target.getClass().getName());
+        try {
+            Object result = parser.parse(in, target.getClass());
+            BeanUtils.copyProperties(target, result);
+        } catch (ParseException | IllegalAccessException | InvocationTargetException e) {
+            throw new IOException(e);
+        }
+    }
+
     @Override
     public String fromObject(ActionInvocation invocation, Object obj, String resultCode, Writer stream) throws IOException {
         LOG.debug("Converting an object of {} into string", obj.getClass().getName());
+        return serialize(invocation, obj, stream);
+    }
+
+    @Override
+    public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream out) throws IOException {
+        LOG.debug("Converting an object of {} into stream", obj.getClass().getName());
+        return serialize(invocation, obj, out);
+    }
+
+    private String serialize(ActionInvocation invocation, Object obj, Object output) throws IOException {
         try {
             serializer
                 .builder()
                 .locale(invocation.getInvocationContext().getLocale())
                 .build()
-                .serialize(obj, stream);
+                .serialize(obj, output);
             return null;
         } catch (SerializeException e) {
             throw new IOException(e);
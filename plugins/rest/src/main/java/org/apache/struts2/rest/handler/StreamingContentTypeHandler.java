@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.rest.handler;
+
+import org.apache.struts2.ActionInvocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Optional extension of {@link ContentTypeHandler} for handlers able to work with bytes directly, the request body
+ * is read from the request stream and the object is written into the response stream without going through
+ * Strings or char buffers.
+ *
+ * @since 7.1.0
+ */
+public interface StreamingContentTypeHandler extends ContentTypeHandler {
+
+    /**
+     * Populates the target object from the request body
+     *
+     * @param invocation current invocation
+     * @param in         the request body
+     * @param encoding   declared encoding of the request body, null if not declared
+     * @param target     the object to populate
+     * @throws IOException in case of errors reading or converting the body
+     */
+    void toObject(ActionInvocation invocation, InputStream in, String encoding, Object target) throws IOException;
+
+    /**
+     * Writes the object as UTF-8 into the stream, closing the stream is ignored
+     *
+     * @param invocation current invocation
+     * @param obj        the object to write
+     * @param resultCode the original result code
+     * @param out        the response body
+     * @return the new result code
+     * @throws IOException in case of errors writing or converting the object
+     */
+    String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream out) throws IOException;
+
+    /**
+     * @param encoding declared encoding of the request body
+     * @return true if the body can be handed over as bytes to a parser detecting Unicode encodings itself
+     */
+    static boolean isUnicodeDetectable(String encoding) {
+        if (encoding == null) {
+            return true;
+        }
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(encoding));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
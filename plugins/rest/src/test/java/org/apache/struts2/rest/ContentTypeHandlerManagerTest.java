@@ -29,10 +29,13 @@ import org.apache.struts2.mock.MockActionProxy;
 import junit.framework.TestCase;
 import org.apache.struts2.rest.handler.ContentTypeHandler;
 import org.apache.struts2.rest.handler.FormUrlEncodedHandler;
+import org.apache.struts2.rest.handler.StreamingContentTypeHandler;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
@@ -94,6 +97,91 @@ public class ContentTypeHandlerManagerTest extends TestCase {
         assertEquals(obj.getBytes().length, mockResponse.getContentLength());
     }
 
+    public void testHandleResultStreamingWithContentLength() throws IOException {
+        mgr.handlersByExtension.put("xml", new BytesHandler());
+        mgr.setDefaultExtension("xml");
+        invocation.setProxy(createProxy());
+
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withStatus(SC_OK), "mystring");
+
+        assertEquals("mystring".length(), mockResponse.getContentLength());
+        assertEquals("foo", mockResponse.getContentType());
+        assertEquals("mystring", mockResponse.getContentAsString());
+    }
+
+    public void testHandleResultStreamingChunked() throws IOException {
+        String obj = "x".repeat(100);
+        mgr.handlersByExtension.put("xml", new BytesHandler());
+        mgr.setDefaultExtension("xml");
+        mgr.setContentLengthThreshold("10");
+        invocation.setProxy(createProxy());
+
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withStatus(SC_OK), obj);
+
+        assertEquals(0, mockResponse.getContentLength());
+        assertEquals("foo", mockResponse.getContentType());
+        assertEquals(obj, mockResponse.getContentAsString());
+    }
+
+    public void testHandleResultStreamingEmpty() throws IOException {
+        mgr.handlersByExtension.put("xml", new BytesHandler());
+        mgr.setDefaultExtension("xml");
+        invocation.setProxy(createProxy());
+
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withStatus(SC_OK), "");
+
+        assertNull(mockResponse.getContentType());
+        assertEquals(0, mockResponse.getContentAsByteArray().length);
+    }
+
+    public void testHandleResultDigestETag() throws IOException {
+        mgr.handlersByExtension.put("xml", new BytesHandler());
+        mgr.setDefaultExtension("xml");
+        mgr.setContentLengthThreshold("0");
+        invocation.setProxy(createProxy());
+
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withDigestETag(), "mystring");
+
+        String etag = mockResponse.getHeader("ETag");
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\""));
+        assertEquals(SC_OK, mockResponse.getStatus());
+        assertEquals("mystring".length(), mockResponse.getContentLength());
+        assertEquals("mystring", mockResponse.getContentAsString());
+
+        mockResponse = new MockHttpServletResponse();
+        ActionContext.getContext().withServletResponse(mockResponse);
+        mockRequest.addHeader("If-None-Match", etag);
+
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withDigestETag(), "mystring");
+
+        assertEquals(etag, mockResponse.getHeader("ETag"));
+        assertEquals(SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals(0, mockResponse.getContentAsByteArray().length);
+    }
+
+    public void testHandleResultNotModifiedSkipsSerialization() throws IOException {
+        mgr.handlersByExtension.put("xml", new BytesHandler() {
+            @Override
+            public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream out) {
+                throw new AssertionError("Not modified response must not be serialized");
+            }
+        });
+        mgr.setDefaultExtension("xml");
+        invocation.setProxy(createProxy());
+
+        mgr.handleResult(invocation, new DefaultHttpHeaders().withStatus(SC_NOT_MODIFIED), "mystring");
+
+        assertEquals(SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals(0, mockResponse.getContentAsByteArray().length);
+    }
+
+    private MockActionProxy createProxy() {
+        MockActionProxy proxy = new MockActionProxy();
+        proxy.setConfig(new ActionConfig.Builder("", "", "").build());
+        return proxy;
+    }
+
     public void testHandleResultNotModified() throws IOException {
 
         Mock mockHandlerXml = new Mock(ContentTypeHandler.class);
@@ -170,4 +258,19 @@ public class ContentTypeHandlerManagerTest extends TestCase {
 
         assertEquals("application/x-www-form-urlencoded", handler.getContentType());
     }
+
+    private static class BytesHandler implements StreamingContentTypeHandler {
+        public void toObject(ActionInvocation invocation, Reader in, Object target) {}
+        public void toObject(ActionInvocation invocation, InputStream in, String encoding, Object target) {}
+        public String fromObject(ActionInvocation invocation, Object obj, String resultCode, Writer stream) {
+            throw new AssertionError("Stream based method expected");
+        }
+        public String fromObject(ActionInvocation invocation, Object obj, String resultCode, OutputStream out) throws IOException {
+            out.write(obj.toString().getBytes(StandardCharsets.UTF_8));
+            out.close();
+            return resultCode;
+        }
+        public String getContentType() { return "foo"; }
+        public String getExtension() { return "foo"; }
+    }
 }
@@ -123,6 +123,27 @@ public class DefaultHttpHeadersTest extends TestCase {
         assertEquals("asdf", mockResponse.getHeader("ETag"));
     }
 
+    public void testConditionalGetForETagList() {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                .withETag(42);
+        mockRequest.addHeader("If-None-Match", "\"abc\", W/\"42\"");
+        headers.apply(mockRequest, mockResponse, new Object());
+
+        assertEquals(SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals("42", mockResponse.getHeader("ETag"));
+    }
+
+    public void testDigestETagSkipsAutoETag() {
+        DefaultHttpHeaders headers = new DefaultHttpHeaders()
+                .withDigestETag();
+        mockRequest.addHeader("If-None-Match", "*");
+        headers.apply(mockRequest, mockResponse, new Object());
+
+        assertEquals(SC_OK, mockResponse.getStatus());
+        assertNull(mockResponse.getHeader("ETag"));
+        assertTrue(headers.isDigestETag());
+    }
+
     public void testConditionalGetForJustETagNotOK() {
         DefaultHttpHeaders headers = new DefaultHttpHeaders()
                 .withETag("asdf")
@@ -21,9 +21,12 @@ package org.apache.struts2.rest.handler;
 import org.apache.struts2.mock.MockActionInvocation;
 import junit.framework.TestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -80,6 +83,33 @@ public class JacksonJsonHandlerTest extends TestCase {
         assertEquals(source.size(), target.size());
     }
 
+    public void testFromObjectToStream() throws IOException {
+        Contact contact = new Contact("bób", true, 44);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonJsonHandler handler = new JacksonJsonHandler();
+        handler.fromObject(new MockActionInvocation(), contact, "success", out);
+
+        String data = out.toString(StandardCharsets.UTF_8);
+        assertTrue(data.startsWith("{"));
+        assertTrue(data.contains("\"name\":\"bób\""));
+    }
+
+    public void testToObjectFromStream() throws IOException {
+        Contact contact = new Contact("bób", true, 44);
+
+        Contact target = new Contact();
+        byte[] body = "{\"age\":44,\"important\":true,\"name\":\"bób\"}".getBytes(StandardCharsets.UTF_8);
+        JacksonJsonHandler handler = new JacksonJsonHandler();
+        handler.toObject(new MockActionInvocation(), new ByteArrayInputStream(body), "UTF-8", target);
+        assertEquals(contact, target);
+
+        target = new Contact();
+        body = "{\"age\":44,\"important\":true,\"name\":\"bób\"}".getBytes(StandardCharsets.ISO_8859_1);
+        handler.toObject(new MockActionInvocation(), new ByteArrayInputStream(body), "ISO-8859-1", target);
+        assertEquals(contact, target);
+    }
+
     public void testContentType() throws IOException {
         JacksonJsonHandler handler = new JacksonJsonHandler();
         assertEquals(handler.getContentType(), "application/json;charset=ISO-8859-1");